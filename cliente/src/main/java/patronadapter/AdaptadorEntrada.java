@@ -0,0 +1,50 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Adaptador para convertir Strings a distintos tipos de datos.
+ * Permite centralizar la lógica de conversión.
+ */
+interface AdaptadorEntrada {
+    String toString(String raw);
+    boolean toBoolean(String raw);
+    int toInt(String raw);
+    float toFloat(String raw);
+    double toDouble(String raw);
+
+    // Variantes sobre un rango de caracteres, sin crear substrings
+    boolean toBoolean(CharSequence raw, int desde, int longitud);
+    int toInt(CharSequence raw, int desde, int longitud);
+    float toFloat(CharSequence raw, int desde, int longitud);
+    double toDouble(CharSequence raw, int desde, int longitud);
+
+    // Variantes sobre bytes ISO-8859-1, para lectores de archivos y sockets
+    boolean toBoolean(byte[] raw, int desde, int longitud);
+    int toInt(byte[] raw, int desde, int longitud);
+    float toFloat(byte[] raw, int desde, int longitud);
+    double toDouble(byte[] raw, int desde, int longitud);
+
+    boolean toBoolean(ByteBuffer raw, int desde, int longitud);
+    int toInt(ByteBuffer raw, int desde, int longitud);
+    float toFloat(ByteBuffer raw, int desde, int longitud);
+    double toDouble(ByteBuffer raw, int desde, int longitud);
+
+    // Variantes sin excepciones: devuelven false si el texto no es válido
+    // y, si es válido, dejan el valor en el resultado indicado.
+    // A diferencia de toBoolean, solo aceptan "true" o "false".
+    boolean intentarBoolean(CharSequence raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarInt(CharSequence raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarFloat(CharSequence raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarDouble(CharSequence raw, int desde, int longitud, ResultadoParseo destino);
+
+    boolean intentarBoolean(byte[] raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarInt(byte[] raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarFloat(byte[] raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarDouble(byte[] raw, int desde, int longitud, ResultadoParseo destino);
+
+    boolean intentarBoolean(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarInt(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarFloat(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino);
+    boolean intentarDouble(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino);
+}
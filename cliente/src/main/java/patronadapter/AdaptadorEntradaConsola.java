@@ -0,0 +1,171 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementación de AdaptadorEntrada para consola.
+ */
+class AdaptadorEntradaConsola implements AdaptadorEntrada {
+    @Override
+    public String toString(String raw) { return raw; }
+    
+    @Override
+    public boolean toBoolean(String raw) { return Boolean.parseBoolean(raw); }
+    
+    @Override
+    public int toInt(String raw) { return Integer.parseInt(raw); }
+    
+    @Override
+    public float toFloat(String raw) { return Float.parseFloat(raw); }
+    
+    @Override
+    public double toDouble(String raw) { return Double.parseDouble(raw); }
+
+    @Override
+    public boolean toBoolean(CharSequence raw, int desde, int longitud) {
+        return LectorNumeros.parseBoolean(raw, desde, longitud);
+    }
+
+    @Override
+    public int toInt(CharSequence raw, int desde, int longitud) {
+        return LectorNumeros.parseInt(raw, desde, longitud);
+    }
+
+    @Override
+    public float toFloat(CharSequence raw, int desde, int longitud) {
+        return LectorNumeros.parseFloat(raw, desde, longitud);
+    }
+
+    @Override
+    public double toDouble(CharSequence raw, int desde, int longitud) {
+        return LectorNumeros.parseDouble(raw, desde, longitud);
+    }
+
+    @Override
+    public boolean toBoolean(byte[] raw, int desde, int longitud) {
+        return LectorNumeros.parseBoolean(raw, desde, longitud);
+    }
+
+    @Override
+    public int toInt(byte[] raw, int desde, int longitud) {
+        return LectorNumeros.parseInt(raw, desde, longitud);
+    }
+
+    @Override
+    public float toFloat(byte[] raw, int desde, int longitud) {
+        return LectorNumeros.parseFloat(raw, desde, longitud);
+    }
+
+    @Override
+    public double toDouble(byte[] raw, int desde, int longitud) {
+        return LectorNumeros.parseDouble(raw, desde, longitud);
+    }
+
+    @Override
+    public boolean toBoolean(ByteBuffer raw, int desde, int longitud) {
+        return toBoolean(LectorNumeros.bytes(raw, desde, longitud), LectorNumeros.desplazamiento(raw, desde), longitud);
+    }
+
+    @Override
+    public int toInt(ByteBuffer raw, int desde, int longitud) {
+        return toInt(LectorNumeros.bytes(raw, desde, longitud), LectorNumeros.desplazamiento(raw, desde), longitud);
+    }
+
+    @Override
+    public float toFloat(ByteBuffer raw, int desde, int longitud) {
+        return toFloat(LectorNumeros.bytes(raw, desde, longitud), LectorNumeros.desplazamiento(raw, desde), longitud);
+    }
+
+    @Override
+    public double toDouble(ByteBuffer raw, int desde, int longitud) {
+        return toDouble(LectorNumeros.bytes(raw, desde, longitud), LectorNumeros.desplazamiento(raw, desde), longitud);
+    }
+
+    @Override
+    public boolean intentarBoolean(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        int valor = LectorNumeros.intentarBoolean(raw, desde, longitud);
+        if (valor < 0) {
+            return false;
+        }
+        destino.ponerBoolean(valor == 1);
+        return true;
+    }
+
+    @Override
+    public boolean intentarInt(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        long valor = LectorNumeros.intentarInt(raw, desde, longitud);
+        if (valor == LectorNumeros.FALLO) {
+            return false;
+        }
+        destino.ponerInt((int) valor);
+        return true;
+    }
+
+    @Override
+    public boolean intentarFloat(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        return LectorNumeros.intentarFloat(raw, desde, longitud, destino);
+    }
+
+    @Override
+    public boolean intentarDouble(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        return LectorNumeros.intentarDouble(raw, desde, longitud, destino);
+    }
+
+    @Override
+    public boolean intentarBoolean(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        int valor = LectorNumeros.intentarBoolean(raw, desde, longitud);
+        if (valor < 0) {
+            return false;
+        }
+        destino.ponerBoolean(valor == 1);
+        return true;
+    }
+
+    @Override
+    public boolean intentarInt(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        long valor = LectorNumeros.intentarInt(raw, desde, longitud);
+        if (valor == LectorNumeros.FALLO) {
+            return false;
+        }
+        destino.ponerInt((int) valor);
+        return true;
+    }
+
+    @Override
+    public boolean intentarFloat(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        return LectorNumeros.intentarFloat(raw, desde, longitud, destino);
+    }
+
+    @Override
+    public boolean intentarDouble(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        return LectorNumeros.intentarDouble(raw, desde, longitud, destino);
+    }
+
+    @Override
+    public boolean intentarBoolean(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentarBoolean(
+            LectorNumeros.bytes(raw, desde, longitud), LectorNumeros.desplazamiento(raw, desde), longitud, destino
+        );
+    }
+
+    @Override
+    public boolean intentarInt(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentarInt(
+            LectorNumeros.bytes(raw, desde, longitud), LectorNumeros.desplazamiento(raw, desde), longitud, destino
+        );
+    }
+
+    @Override
+    public boolean intentarFloat(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentarFloat(
+            LectorNumeros.bytes(raw, desde, longitud), LectorNumeros.desplazamiento(raw, desde), longitud, destino
+        );
+    }
+
+    @Override
+    public boolean intentarDouble(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentarDouble(
+            LectorNumeros.bytes(raw, desde, longitud), LectorNumeros.desplazamiento(raw, desde), longitud, destino
+        );
+    }
+}
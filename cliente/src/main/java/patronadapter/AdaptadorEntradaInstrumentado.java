@@ -0,0 +1,246 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de AdaptadorEntrada. Las sobrecargas de un mismo método (String,
+ * CharSequence, byte[] y ByteBuffer) comparten histograma. En los to* cuenta
+ * como error la excepción (NumberFormatException) y en los intentar* el
+ * resultado false, ya que esos métodos no lanzan excepciones.
+ */
+class AdaptadorEntradaInstrumentado implements AdaptadorEntrada {
+    private final AdaptadorEntrada adaptador;
+    private final Medidor toString;
+    private final Medidor toBoolean;
+    private final Medidor toInt;
+    private final Medidor toFloat;
+    private final Medidor toDouble;
+    private final Medidor intentarBoolean;
+    private final Medidor intentarInt;
+    private final Medidor intentarFloat;
+    private final Medidor intentarDouble;
+
+    AdaptadorEntradaInstrumentado(AdaptadorEntrada adaptador, Metricas metricas) {
+        this.adaptador = adaptador;
+        this.toString = metricas.medidor("AdaptadorEntrada.toString");
+        this.toBoolean = metricas.medidor("AdaptadorEntrada.toBoolean");
+        this.toInt = metricas.medidor("AdaptadorEntrada.toInt");
+        this.toFloat = metricas.medidor("AdaptadorEntrada.toFloat");
+        this.toDouble = metricas.medidor("AdaptadorEntrada.toDouble");
+        this.intentarBoolean = metricas.medidor("AdaptadorEntrada.intentarBoolean");
+        this.intentarInt = metricas.medidor("AdaptadorEntrada.intentarInt");
+        this.intentarFloat = metricas.medidor("AdaptadorEntrada.intentarFloat");
+        this.intentarDouble = metricas.medidor("AdaptadorEntrada.intentarDouble");
+    }
+
+    @Override
+    public String toString(String raw) {
+        return medir(toString, () -> adaptador.toString(raw));
+    }
+
+    @Override
+    public boolean toBoolean(String raw) {
+        return medirBoolean(toBoolean, () -> adaptador.toBoolean(raw));
+    }
+
+    @Override
+    public int toInt(String raw) {
+        return medirInt(toInt, () -> adaptador.toInt(raw));
+    }
+
+    @Override
+    public float toFloat(String raw) {
+        return (float) medirDouble(toFloat, () -> adaptador.toFloat(raw));
+    }
+
+    @Override
+    public double toDouble(String raw) {
+        return medirDouble(toDouble, () -> adaptador.toDouble(raw));
+    }
+
+    @Override
+    public boolean toBoolean(CharSequence raw, int desde, int longitud) {
+        return medirBoolean(toBoolean, () -> adaptador.toBoolean(raw, desde, longitud));
+    }
+
+    @Override
+    public int toInt(CharSequence raw, int desde, int longitud) {
+        return medirInt(toInt, () -> adaptador.toInt(raw, desde, longitud));
+    }
+
+    @Override
+    public float toFloat(CharSequence raw, int desde, int longitud) {
+        return (float) medirDouble(toFloat, () -> adaptador.toFloat(raw, desde, longitud));
+    }
+
+    @Override
+    public double toDouble(CharSequence raw, int desde, int longitud) {
+        return medirDouble(toDouble, () -> adaptador.toDouble(raw, desde, longitud));
+    }
+
+    @Override
+    public boolean toBoolean(byte[] raw, int desde, int longitud) {
+        return medirBoolean(toBoolean, () -> adaptador.toBoolean(raw, desde, longitud));
+    }
+
+    @Override
+    public int toInt(byte[] raw, int desde, int longitud) {
+        return medirInt(toInt, () -> adaptador.toInt(raw, desde, longitud));
+    }
+
+    @Override
+    public float toFloat(byte[] raw, int desde, int longitud) {
+        return (float) medirDouble(toFloat, () -> adaptador.toFloat(raw, desde, longitud));
+    }
+
+    @Override
+    public double toDouble(byte[] raw, int desde, int longitud) {
+        return medirDouble(toDouble, () -> adaptador.toDouble(raw, desde, longitud));
+    }
+
+    @Override
+    public boolean toBoolean(ByteBuffer raw, int desde, int longitud) {
+        return medirBoolean(toBoolean, () -> adaptador.toBoolean(raw, desde, longitud));
+    }
+
+    @Override
+    public int toInt(ByteBuffer raw, int desde, int longitud) {
+        return medirInt(toInt, () -> adaptador.toInt(raw, desde, longitud));
+    }
+
+    @Override
+    public float toFloat(ByteBuffer raw, int desde, int longitud) {
+        return (float) medirDouble(toFloat, () -> adaptador.toFloat(raw, desde, longitud));
+    }
+
+    @Override
+    public double toDouble(ByteBuffer raw, int desde, int longitud) {
+        return medirDouble(toDouble, () -> adaptador.toDouble(raw, desde, longitud));
+    }
+
+    @Override
+    public boolean intentarBoolean(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarBoolean, () -> adaptador.intentarBoolean(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarInt(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarInt, () -> adaptador.intentarInt(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarFloat(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarFloat, () -> adaptador.intentarFloat(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarDouble(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarDouble, () -> adaptador.intentarDouble(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarBoolean(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarBoolean, () -> adaptador.intentarBoolean(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarInt(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarInt, () -> adaptador.intentarInt(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarFloat(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarFloat, () -> adaptador.intentarFloat(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarDouble(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarDouble, () -> adaptador.intentarDouble(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarBoolean(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarBoolean, () -> adaptador.intentarBoolean(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarInt(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarInt, () -> adaptador.intentarInt(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarFloat(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarFloat, () -> adaptador.intentarFloat(raw, desde, longitud, destino));
+    }
+
+    @Override
+    public boolean intentarDouble(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino) {
+        return intentar(intentarDouble, () -> adaptador.intentarDouble(raw, desde, longitud, destino));
+    }
+
+    // Una llamada medida: tiempo con el Medidor del método y, si lanza una
+    // excepción, un error. Una variante por tipo de resultado, sin encajonar
+    // primitivos; los float pasan por medirDouble, que los conserva exactos.
+
+    private static <T> T medir(Medidor medidor, Supplier<T> llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.get();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static boolean medirBoolean(Medidor medidor, BooleanSupplier llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.getAsBoolean();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static int medirInt(Medidor medidor, IntSupplier llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.getAsInt();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static double medirDouble(Medidor medidor, DoubleSupplier llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.getAsDouble();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static boolean intentar(Medidor medidor, BooleanSupplier llamada) {
+        long inicio = medidor.iniciar();
+        boolean valido = llamada.getAsBoolean();
+        if (!valido) {
+            medidor.error();
+        }
+        medidor.terminar(inicio);
+        return valido;
+    }
+}
@@ -0,0 +1,53 @@
+package patronadapter;
+
+/**
+ * AdaptadorEntrada que parsea float y double con LectorDecimal (Eisel-Lemire).
+ * Los resultados y las excepciones son los mismos que los de AdaptadorEntradaConsola.
+ */
+class AdaptadorEntradaRapido extends AdaptadorEntradaConsola {
+    @Override
+    public float toFloat(String raw) { return LectorDecimal.parseFloat(raw, 0, raw.length()); }
+
+    @Override
+    public double toDouble(String raw) { return LectorDecimal.parseDouble(raw, 0, raw.length()); }
+
+    @Override
+    public float toFloat(CharSequence raw, int desde, int longitud) {
+        return LectorDecimal.parseFloat(raw, desde, longitud);
+    }
+
+    @Override
+    public double toDouble(CharSequence raw, int desde, int longitud) {
+        return LectorDecimal.parseDouble(raw, desde, longitud);
+    }
+
+    @Override
+    public float toFloat(byte[] raw, int desde, int longitud) {
+        return LectorDecimal.parseFloat(raw, desde, longitud);
+    }
+
+    @Override
+    public double toDouble(byte[] raw, int desde, int longitud) {
+        return LectorDecimal.parseDouble(raw, desde, longitud);
+    }
+
+    @Override
+    public boolean intentarFloat(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        return LectorDecimal.intentarFloat(raw, desde, longitud, destino);
+    }
+
+    @Override
+    public boolean intentarDouble(CharSequence raw, int desde, int longitud, ResultadoParseo destino) {
+        return LectorDecimal.intentarDouble(raw, desde, longitud, destino);
+    }
+
+    @Override
+    public boolean intentarFloat(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        return LectorDecimal.intentarFloat(raw, desde, longitud, destino);
+    }
+
+    @Override
+    public boolean intentarDouble(byte[] raw, int desde, int longitud, ResultadoParseo destino) {
+        return LectorDecimal.intentarDouble(raw, desde, longitud, destino);
+    }
+}
@@ -0,0 +1,29 @@
+package patronadapter;
+
+/**
+ * Adaptador para formatear distintos tipos de datos a String.
+ * Permite centralizar la lógica de formateo para la salida.
+ */
+interface AdaptadorSalida {
+    String formatString(Object source);
+    String formatBoolean(Object source);
+    String formatInt(Object source);
+    String formatFloat(Object source);
+    String formatDouble(Object source);
+
+    // Sobrecargas primitivas: el valor llega sin encajonar
+    String formatString(CharSequence source);
+    String formatBoolean(boolean source);
+    String formatInt(int source);
+    String formatFloat(float source);
+    String formatDouble(double source);
+
+    // Escritura en un arreglo del llamador, sin crear Strings (ASCII en los byte[]):
+    // devuelven la posición siguiente al último carácter escrito
+    int escribirInt(int source, byte[] destino, int desde);
+    int escribirInt(int source, char[] destino, int desde);
+    int escribirFloat(float source, byte[] destino, int desde);
+    int escribirDouble(double source, byte[] destino, int desde);
+    int escribirFloat(float source, char[] destino, int desde);
+    int escribirDouble(double source, char[] destino, int desde);
+}
@@ -0,0 +1,78 @@
+package patronadapter;
+
+/**
+ * Implementación de AdaptadorSalida para consola.
+ */
+class AdaptadorSalidaConsola implements AdaptadorSalida {
+    @Override
+    public String formatString(Object source) { return String.valueOf(source); }
+    
+    @Override
+    public String formatBoolean(Object source) { return String.valueOf(source); }
+    
+    @Override
+    public String formatInt(Object source) { return String.valueOf(source); }
+    
+    @Override
+    public String formatFloat(Object source) { return String.valueOf(source); }
+    
+    @Override
+    public String formatDouble(Object source) { return String.valueOf(source); }
+
+    @Override
+    public String formatString(CharSequence source) { return String.valueOf(source); }
+
+    @Override
+    public String formatBoolean(boolean source) { return String.valueOf(source); }
+
+    @Override
+    public String formatInt(int source) { return String.valueOf(source); }
+
+    @Override
+    public String formatFloat(float source) { return String.valueOf(source); }
+
+    @Override
+    public String formatDouble(double source) { return String.valueOf(source); }
+
+    @Override
+    public int escribirInt(int source, byte[] destino, int desde) {
+        return copiar(String.valueOf(source), destino, desde);
+    }
+
+    @Override
+    public int escribirInt(int source, char[] destino, int desde) {
+        return copiar(String.valueOf(source), destino, desde);
+    }
+
+    @Override
+    public int escribirFloat(float source, byte[] destino, int desde) {
+        return copiar(String.valueOf(source), destino, desde);
+    }
+
+    @Override
+    public int escribirDouble(double source, byte[] destino, int desde) {
+        return copiar(String.valueOf(source), destino, desde);
+    }
+
+    @Override
+    public int escribirFloat(float source, char[] destino, int desde) {
+        return copiar(String.valueOf(source), destino, desde);
+    }
+
+    @Override
+    public int escribirDouble(double source, char[] destino, int desde) {
+        return copiar(String.valueOf(source), destino, desde);
+    }
+
+    private static int copiar(String texto, byte[] destino, int desde) {
+        for (int i = 0; i < texto.length(); i++) {
+            destino[desde + i] = (byte) texto.charAt(i);
+        }
+        return desde + texto.length();
+    }
+
+    private static int copiar(String texto, char[] destino, int desde) {
+        texto.getChars(0, texto.length(), destino, desde);
+        return desde + texto.length();
+    }
+}
@@ -0,0 +1,140 @@
+package patronadapter;
+
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de AdaptadorSalida. Las sobrecargas de cada format* comparten
+ * histograma, igual que las de cada escribir* (byte[] y char[]).
+ */
+class AdaptadorSalidaInstrumentado implements AdaptadorSalida {
+    private final AdaptadorSalida adaptador;
+    private final Medidor formatString;
+    private final Medidor formatBoolean;
+    private final Medidor formatInt;
+    private final Medidor formatFloat;
+    private final Medidor formatDouble;
+    private final Medidor escribirInt;
+    private final Medidor escribirFloat;
+    private final Medidor escribirDouble;
+
+    AdaptadorSalidaInstrumentado(AdaptadorSalida adaptador, Metricas metricas) {
+        this.adaptador = adaptador;
+        this.formatString = metricas.medidor("AdaptadorSalida.formatString");
+        this.formatBoolean = metricas.medidor("AdaptadorSalida.formatBoolean");
+        this.formatInt = metricas.medidor("AdaptadorSalida.formatInt");
+        this.formatFloat = metricas.medidor("AdaptadorSalida.formatFloat");
+        this.formatDouble = metricas.medidor("AdaptadorSalida.formatDouble");
+        this.escribirInt = metricas.medidor("AdaptadorSalida.escribirInt");
+        this.escribirFloat = metricas.medidor("AdaptadorSalida.escribirFloat");
+        this.escribirDouble = metricas.medidor("AdaptadorSalida.escribirDouble");
+    }
+
+    @Override
+    public String formatString(Object source) {
+        return medir(formatString, () -> adaptador.formatString(source));
+    }
+
+    @Override
+    public String formatBoolean(Object source) {
+        return medir(formatBoolean, () -> adaptador.formatBoolean(source));
+    }
+
+    @Override
+    public String formatInt(Object source) {
+        return medir(formatInt, () -> adaptador.formatInt(source));
+    }
+
+    @Override
+    public String formatFloat(Object source) {
+        return medir(formatFloat, () -> adaptador.formatFloat(source));
+    }
+
+    @Override
+    public String formatDouble(Object source) {
+        return medir(formatDouble, () -> adaptador.formatDouble(source));
+    }
+
+    @Override
+    public String formatString(CharSequence source) {
+        return medir(formatString, () -> adaptador.formatString(source));
+    }
+
+    @Override
+    public String formatBoolean(boolean source) {
+        return medir(formatBoolean, () -> adaptador.formatBoolean(source));
+    }
+
+    @Override
+    public String formatInt(int source) {
+        return medir(formatInt, () -> adaptador.formatInt(source));
+    }
+
+    @Override
+    public String formatFloat(float source) {
+        return medir(formatFloat, () -> adaptador.formatFloat(source));
+    }
+
+    @Override
+    public String formatDouble(double source) {
+        return medir(formatDouble, () -> adaptador.formatDouble(source));
+    }
+
+    @Override
+    public int escribirInt(int source, byte[] destino, int desde) {
+        return medirInt(escribirInt, () -> adaptador.escribirInt(source, destino, desde));
+    }
+
+    @Override
+    public int escribirInt(int source, char[] destino, int desde) {
+        return medirInt(escribirInt, () -> adaptador.escribirInt(source, destino, desde));
+    }
+
+    @Override
+    public int escribirFloat(float source, byte[] destino, int desde) {
+        return medirInt(escribirFloat, () -> adaptador.escribirFloat(source, destino, desde));
+    }
+
+    @Override
+    public int escribirDouble(double source, byte[] destino, int desde) {
+        return medirInt(escribirDouble, () -> adaptador.escribirDouble(source, destino, desde));
+    }
+
+    @Override
+    public int escribirFloat(float source, char[] destino, int desde) {
+        return medirInt(escribirFloat, () -> adaptador.escribirFloat(source, destino, desde));
+    }
+
+    @Override
+    public int escribirDouble(double source, char[] destino, int desde) {
+        return medirInt(escribirDouble, () -> adaptador.escribirDouble(source, destino, desde));
+    }
+
+    // Una llamada medida: tiempo con el Medidor del método y, si lanza una
+    // excepción, un error. Una variante por tipo de resultado, sin encajonar
+    // primitivos; los float pasan por medirDouble, que los conserva exactos.
+
+    private static <T> T medir(Medidor medidor, Supplier<T> llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.get();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static int medirInt(Medidor medidor, IntSupplier llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.getAsInt();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+}
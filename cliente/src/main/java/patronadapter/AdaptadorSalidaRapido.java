@@ -0,0 +1,59 @@
+package patronadapter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AdaptadorSalida que formatea float y double con EscritorDecimal (Schubfach)
+ * y escribe los int con EscritorEntero (pares de dígitos). El texto es el mismo
+ * que el de AdaptadorSalidaConsola; los métodos escribir* no crean objetos,
+ * para las Salidas que vuelcan millones de valores.
+ *
+ * formatFloat y formatDouble escriben en un buffer propio y sólo crean el
+ * String que exige Salida.mostrarString, así que cada instancia se usa desde
+ * un hilo por vez (una por Cliente o Salida). formatInt queda el heredado:
+ * Integer.toString ya crea sólo ese String, y copiarlo desde el buffer con
+ * new String(byte[]) asigna más y es más lento.
+ */
+class AdaptadorSalidaRapido extends AdaptadorSalidaConsola {
+    private final byte[] texto = new byte[EscritorDecimal.MAXIMO_DOUBLE];
+
+    @Override
+    public String formatFloat(float source) {
+        return new String(texto, 0, EscritorDecimal.escribir(source, texto, 0), StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String formatDouble(double source) {
+        return new String(texto, 0, EscritorDecimal.escribir(source, texto, 0), StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public int escribirInt(int source, byte[] destino, int desde) {
+        return EscritorEntero.escribir(source, destino, desde);
+    }
+
+    @Override
+    public int escribirInt(int source, char[] destino, int desde) {
+        return EscritorEntero.escribir(source, destino, desde);
+    }
+
+    @Override
+    public int escribirFloat(float source, byte[] destino, int desde) {
+        return EscritorDecimal.escribir(source, destino, desde);
+    }
+
+    @Override
+    public int escribirDouble(double source, byte[] destino, int desde) {
+        return EscritorDecimal.escribir(source, destino, desde);
+    }
+
+    @Override
+    public int escribirFloat(float source, char[] destino, int desde) {
+        return EscritorDecimal.escribir(source, destino, desde);
+    }
+
+    @Override
+    public int escribirDouble(double source, char[] destino, int desde) {
+        return EscritorDecimal.escribir(source, destino, desde);
+    }
+}
@@ -0,0 +1,122 @@
+package patronadapter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+
+/**
+ * Anillo de bytes de un solo productor y un solo consumidor sobre una región
+ * de un archivo mapeado, para comunicar dos procesos. Los contadores de
+ * secuencia (bytes escritos y leídos desde el inicio) van en líneas de caché
+ * separadas y se publican con semántica release/acquire.
+ */
+final class AnilloBytes {
+    private static final VarHandle LARGO = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    // Separación entre contadores para que no compartan línea de caché
+    private static final int SEPARACION = 128;
+    private static final int COLA = 0;
+    private static final int CABEZA = SEPARACION;
+    private static final int CERRADO = 2 * SEPARACION;
+    static final int CABECERA = 3 * SEPARACION;
+
+    private final MappedByteBuffer mapa;
+    private final int base;
+    private final int datos;
+    private final int capacidad;
+    private final int mascara;
+    private final EsperaAnillo espera;
+
+    // Copia local del contador propio (sólo este extremo lo modifica)
+    private long cola;
+    private long cabeza;
+
+    /**
+     * @param capacidad bytes de datos del anillo; debe ser potencia de dos
+     */
+    AnilloBytes(MappedByteBuffer mapa, int base, int capacidad, EsperaAnillo espera) {
+        this.mapa = mapa;
+        this.base = base;
+        this.datos = base + CABECERA;
+        this.capacidad = capacidad;
+        this.mascara = capacidad - 1;
+        this.espera = espera;
+        this.cola = (long) LARGO.getAcquire(mapa, base + COLA);
+        this.cabeza = (long) LARGO.getAcquire(mapa, base + CABEZA);
+    }
+
+    /**
+     * Productor: copia todo lo pendiente de origen, esperando si el anillo está lleno.
+     */
+    void escribir(ByteBuffer origen) {
+        int intentos = 0;
+        while (origen.hasRemaining()) {
+            long leidos = (long) LARGO.getAcquire(mapa, base + CABEZA);
+            int libre = (int) (capacidad - (cola - leidos));
+            if (libre == 0) {
+                espera.esperar(intentos++);
+                continue;
+            }
+            intentos = 0;
+            int desde = (int) (cola & mascara);
+            int n = Math.min(Math.min(libre, origen.remaining()), capacidad - desde);
+            mapa.put(datos + desde, origen, origen.position(), n);
+            origen.position(origen.position() + n);
+            cola += n;
+            LARGO.setRelease(mapa, base + COLA, cola);
+        }
+    }
+
+    /**
+     * Productor: marca que no se escribirá más.
+     */
+    void cerrar() {
+        LARGO.setRelease(mapa, base + CERRADO, 1L);
+    }
+
+    /**
+     * Bytes escritos que el consumidor todavía no leyó. Cualquier hilo puede
+     * consultarlo sin esperar; lee primero la cabeza para no dar negativo.
+     */
+    long ocupados() {
+        long leidos = (long) LARGO.getAcquire(mapa, base + CABEZA);
+        return (long) LARGO.getAcquire(mapa, base + COLA) - leidos;
+    }
+
+    /**
+     * Consumidor: true si hay bytes para leer sin esperar.
+     */
+    boolean hayDatos() {
+        return (long) LARGO.getAcquire(mapa, base + COLA) != cabeza;
+    }
+
+    /**
+     * Consumidor: copia en destino los bytes disponibles, esperando hasta que
+     * haya alguno. Devuelve la cantidad copiada, o -1 si el productor cerró el
+     * anillo y ya no quedan datos.
+     */
+    int leer(ByteBuffer destino) {
+        int intentos = 0;
+        while (true) {
+            long escritos = (long) LARGO.getAcquire(mapa, base + COLA);
+            int disponibles = (int) (escritos - cabeza);
+            if (disponibles == 0) {
+                if ((long) LARGO.getAcquire(mapa, base + CERRADO) != 0
+                    && (long) LARGO.getAcquire(mapa, base + COLA) == cabeza) {
+                    return -1;
+                }
+                espera.esperar(intentos++);
+                continue;
+            }
+            int desde = (int) (cabeza & mascara);
+            int n = Math.min(Math.min(disponibles, destino.remaining()), capacidad - desde);
+            destino.put(destino.position(), mapa, datos + desde, n);
+            destino.position(destino.position() + n);
+            cabeza += n;
+            LARGO.setRelease(mapa, base + CABEZA, cabeza);
+            return n;
+        }
+    }
+}
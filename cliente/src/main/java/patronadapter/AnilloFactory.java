@@ -0,0 +1,33 @@
+package patronadapter;
+
+import java.nio.file.Path;
+
+/**
+ * Factory para el convertidor de memoria compartida: la Entrada lee el anillo
+ * de peticiones y la Salida escribe en el de respuestas. Se usa con
+ * Cliente.ejecutarPeticiones (una petición "tipoE tipoS valor" por línea).
+ */
+class AnilloFactory implements IOFactory {
+    private final MemoriaCompartida memoria;
+    private SalidaAnillo salida;
+
+    AnilloFactory(Path archivo, EsperaAnillo espera) {
+        this.memoria = MemoriaCompartida.crear(archivo, espera);
+        MetricasConversion.observar(memoria);
+    }
+
+    @Override
+    public Entrada crearEntrada() {
+        return new EntradaAnillo(memoria.peticiones, () -> {
+            if (salida != null) {
+                salida.vaciar();
+            }
+        });
+    }
+
+    @Override
+    public Salida crearSalida() {
+        salida = new SalidaAnillo(memoria.respuestas);
+        return salida;
+    }
+}
@@ -0,0 +1,26 @@
+package patronadapter;
+
+import java.nio.file.Path;
+
+/**
+ * Factory para convertir archivos grandes mapeándolos en memoria.
+ */
+class ArchivoMapeadoFactory implements IOFactory {
+    private final Path entrada;
+    private final Path salida;
+
+    ArchivoMapeadoFactory(Path entrada, Path salida) {
+        this.entrada = entrada;
+        this.salida = salida;
+    }
+
+    @Override
+    public Entrada crearEntrada() {
+        return new EntradaMapeada(entrada);
+    }
+
+    @Override
+    public Salida crearSalida() {
+        return new SalidaMapeada(salida);
+    }
+}
@@ -0,0 +1,27 @@
+package patronadapter;
+
+import java.nio.file.Path;
+
+/**
+ * Factory para archivos en formato binario etiquetado: la entrada se mapea en
+ * memoria y se lee en el lugar; la salida se escribe por bloques.
+ */
+class BinarioFactory implements IOFactory {
+    private final Path entrada;
+    private final Path salida;
+
+    BinarioFactory(Path entrada, Path salida) {
+        this.entrada = entrada;
+        this.salida = salida;
+    }
+
+    @Override
+    public Entrada crearEntrada() {
+        return EntradaBinaria.mapear(entrada);
+    }
+
+    @Override
+    public Salida crearSalida() {
+        return SalidaBinaria.crear(salida);
+    }
+}
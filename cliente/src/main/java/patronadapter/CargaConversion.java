@@ -0,0 +1,91 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de carga para ServidorConversion: abre muchas conexiones inactivas
+ * y unas cuantas activas que repiten la conversión int -> double, y mide
+ * cuántas conversiones por segundo completa el servidor. En modo peticiones
+ * cada sesión envía LOTE peticiones seguidas antes de leer las respuestas.
+ */
+class CargaConversion {
+    static final int LOTE = 256;
+
+    private static final byte[] DIALOGO = "int\n42\ndouble\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PETICIONES = "int double 42\n".repeat(LOTE).getBytes(StandardCharsets.US_ASCII);
+
+    private final SocketAddress direccion;
+    private final boolean peticiones;
+
+    CargaConversion(SocketAddress direccion, boolean peticiones) {
+        this.direccion = direccion;
+        this.peticiones = peticiones;
+    }
+
+    void ejecutar(int inactivas, int activas, int segundos) throws Exception {
+        List<SocketChannel> abiertas = new ArrayList<>(inactivas);
+        try {
+            for (int i = 0; i < inactivas; i++) {
+                abiertas.add(SocketChannel.open(direccion));
+            }
+            System.out.println("Conexiones inactivas abiertas: " + abiertas.size());
+
+            AtomicLong conversiones = new AtomicLong();
+            long fin = System.nanoTime() + segundos * 1_000_000_000L;
+            try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < activas; i++) {
+                    hilos.execute(() -> conversar(fin, conversiones));
+                }
+            }
+            System.out.printf("%d sesiones activas: %.0f conversiones/s%n",
+                activas, conversiones.get() / (double) segundos);
+        } finally {
+            for (SocketChannel canal : abiertas) {
+                canal.close();
+            }
+        }
+    }
+
+    /**
+     * Repite el envío hasta el instante fin. El servidor responde con una
+     * línea completa por conversión (los mensajes del diálogo no terminan en
+     * salto de línea), así que basta contar saltos de línea.
+     */
+    private void conversar(long fin, AtomicLong conversiones) {
+        ByteBuffer envio = ByteBuffer.wrap(peticiones ? PETICIONES : DIALOGO);
+        int esperadas = peticiones ? LOTE : 1;
+        ByteBuffer respuesta = ByteBuffer.allocate(16 << 10);
+        try (SocketChannel canal = SocketChannel.open(direccion)) {
+            while (System.nanoTime() < fin) {
+                envio.clear();
+                while (envio.hasRemaining()) {
+                    canal.write(envio);
+                }
+                int recibidas = 0;
+                while (recibidas < esperadas) {
+                    respuesta.clear();
+                    if (canal.read(respuesta) < 0) {
+                        return;
+                    }
+                    for (int i = 0; i < respuesta.position(); i++) {
+                        if (respuesta.get(i) == '\n') {
+                            recibidas++;
+                        }
+                    }
+                }
+                conversiones.addAndGet(esperadas);
+            }
+        } catch (IOException e) {
+            System.out.println("Error en la sesión: " + e.getMessage());
+        }
+    }
+}
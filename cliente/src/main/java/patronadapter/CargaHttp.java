@@ -0,0 +1,125 @@
+package patronadapter;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de carga para ServidorHttp con el HttpClient del JDK: varias
+ * sesiones hacen GET de un valor durante unos segundos y luego se envía un
+ * POST con muchos valores para medir el modo en flujo.
+ */
+class CargaHttp {
+    private final URI base;
+
+    CargaHttp(int puerto) {
+        this.base = URI.create("http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + puerto + "/convertir");
+    }
+
+    void ejecutar(int activas, int segundos, int valores) throws Exception {
+        try (HttpClient http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            HttpRequest unValor = HttpRequest.newBuilder(URI.create(base + "?de=int&a=double&valor=42")).build();
+            AtomicLong respuestas = new AtomicLong();
+            long fin = System.nanoTime() + segundos * 1_000_000_000L;
+            try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < activas; i++) {
+                    hilos.execute(() -> {
+                        try {
+                            while (System.nanoTime() < fin) {
+                                http.send(unValor, HttpResponse.BodyHandlers.discarding());
+                                respuestas.incrementAndGet();
+                            }
+                        } catch (IOException | InterruptedException e) {
+                            System.out.println("Error en la sesión: " + e.getMessage());
+                        }
+                    });
+                }
+            }
+            System.out.printf("GET, %d sesiones activas: %.0f peticiones/s%n",
+                activas, respuestas.get() / (double) segundos);
+        }
+        convertirFlujo(valores);
+    }
+
+    /**
+     * POST en flujo con un socket propio: el cuerpo se envía desde otro hilo
+     * mientras se leen las respuestas, porque el servidor responde a medida que
+     * convierte (HttpClient no lee la respuesta hasta terminar de enviar).
+     */
+    private void convertirFlujo(int valores) throws Exception {
+        StringBuilder texto = new StringBuilder(valores * 8);
+        Random random = new Random(42);
+        for (int i = 0; i < valores; i++) {
+            texto.append(random.nextInt()).append('\n');
+        }
+        byte[] cuerpo = texto.toString().getBytes(StandardCharsets.US_ASCII);
+        byte[] cabecera = ("POST " + base.getRawPath() + "?de=int&a=double HTTP/1.1\r\n"
+            + "Host: " + base.getHost() + "\r\nContent-Length: " + cuerpo.length
+            + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        long inicio = System.nanoTime();
+        long lineas;
+        try (SocketChannel canal = SocketChannel.open(new InetSocketAddress(base.getHost(), base.getPort()))) {
+            Thread envio = Thread.ofVirtual().start(() -> {
+                ByteBuffer[] envioCompleto = {ByteBuffer.wrap(cabecera), ByteBuffer.wrap(cuerpo)};
+                try {
+                    while (envioCompleto[1].hasRemaining()) {
+                        canal.write(envioCompleto);
+                    }
+                } catch (IOException e) {
+                    System.out.println("Error al enviar: " + e.getMessage());
+                }
+            });
+            lineas = contarLineas(new BufferedInputStream(Channels.newInputStream(canal), 64 << 10));
+            envio.join();
+        }
+        double tiempo = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("POST de %d valores: %d líneas en %.2f s (%.0f valores/s)%n",
+            valores, lineas, tiempo, lineas / tiempo);
+    }
+
+    /**
+     * Cuenta las líneas del cuerpo de una respuesta chunked.
+     */
+    private static long contarLineas(InputStream in) throws IOException {
+        while (!leerLinea(in).isEmpty()) {
+            // Se saltan las cabeceras
+        }
+        long lineas = 0;
+        int tamano;
+        while ((tamano = Integer.parseInt(leerLinea(in).trim(), 16)) > 0) {
+            for (int i = 0; i < tamano; i++) {
+                if (in.read() == '\n') {
+                    lineas++;
+                }
+            }
+            leerLinea(in);
+        }
+        return lineas;
+    }
+
+    private static String leerLinea(InputStream in) throws IOException {
+        StringBuilder linea = new StringBuilder();
+        int b;
+        while ((b = in.read()) >= 0 && b != '\n') {
+            if (b != '\r') {
+                linea.append((char) b);
+            }
+        }
+        return linea.toString();
+    }
+}
@@ -0,0 +1,732 @@
+package patronadapter;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.JOptionPane;
+
+/**
+ * Clase principal que utiliza las fábricas, adaptadores y controla el flujo del programa.
+ * Permite al usuario ingresar un valor, elegir su tipo, convertirlo y mostrarlo en otro tipo.
+ */
+public class Cliente {
+    private final Entrada entrada;
+    private final Salida salida;
+    private final AdaptadorEntrada adaptadorEntrada;
+    private final AdaptadorSalida adaptadorSalida;
+    private final ContextoConversion contexto;
+
+    // Métricas de conversión activas al crear el Cliente, o null si están apagadas
+    private final MetricasConversion conversiones = MetricasConversion.activas();
+    // Momento en que empezó el valor en curso, para el histograma de su par
+    private long inicioValor;
+
+    // Valor leído de la Entrada; se reutiliza para no encajonar primitivos
+    private final Valor valor = new Valor();
+
+    // Bloques del modo por lotes numérico; se crean al usarse por primera vez
+    private static final int BLOQUE = 1024;
+    private int[] enteros;
+    private float[] flotantes;
+    private double[] dobles;
+
+    /**
+     * Constructor que recibe una fábrica para crear Entrada y Salida.
+     */
+    public Cliente(IOFactory factory) {
+        this(factory.crearEntrada(), factory.crearSalida(),
+            factory.crearAdaptadorEntrada(), factory.crearAdaptadorSalida());
+    }
+
+    /**
+     * Constructor con una Entrada y una Salida ya creadas (por ejemplo, en memoria).
+     */
+    Cliente(Entrada entrada, Salida salida) {
+        this(entrada, salida, new AdaptadorEntradaRapido(), new AdaptadorSalidaRapido());
+    }
+
+    Cliente(Entrada entrada, Salida salida, AdaptadorEntrada adaptadorEntrada, AdaptadorSalida adaptadorSalida) {
+        this.entrada = entrada;
+        this.salida = salida;
+        this.adaptadorEntrada = adaptadorEntrada;
+        this.adaptadorSalida = adaptadorSalida;
+        this.contexto = new ContextoConversion(adaptadorEntrada, adaptadorSalida, salida);
+    }
+
+    /**
+     * Verifica si una conversión entre tipos es válida.
+     * El nombre pedido sólo se usa en el evento Validacion cuando el tipo de
+     * salida no existe.
+     */
+    private static boolean esConversionValida(TipoDato tipoEntrada, TipoDato tipoSalida, String pedido) {
+        EventoValidacion evento = new EventoValidacion();
+        evento.begin();
+        boolean permitida = tipoSalida != null && tipoEntrada.permite(tipoSalida);
+        if (evento.shouldCommit()) {
+            evento.tipoEntrada = tipoEntrada.nombre();
+            evento.tipoSalida = tipoSalida != null ? tipoSalida.nombre() : pedido;
+            evento.permitida = permitida;
+            evento.commit();
+        }
+        return permitida;
+    }
+
+    /**
+     * Método principal que ejecuta el flujo de entrada, conversión y salida.
+     */
+    public void ejecutar() {
+        try {
+            dialogo();
+        } finally {
+            vaciar();
+        }
+    }
+
+    /**
+     * Repite el diálogo hasta que la Entrada se agote (por ejemplo, cuando el
+     * cliente de una conexión TCP la cierra). Los resultados de cada diálogo
+     * se envían antes de empezar el siguiente.
+     */
+    public void ejecutarSesion() {
+        try {
+            while (dialogo()) {
+                vaciar();
+            }
+        } finally {
+            vaciar();
+        }
+    }
+
+    /**
+     * Pasos del diálogo de una conversión.
+     * Devuelve false si la Entrada ya no tenía datos al pedir un tipo.
+     */
+    private boolean dialogo() {
+        // Paso 1: preguntar tipo de dato de entrada
+        String tipoEntrada = entrada.ingresarString(
+            "¿Qué tipo de dato desea ingresar? (string/int/boolean/float/double)"
+        );
+        if (tipoEntrada == null) {
+            return false;
+        }
+
+        // Validar tipo de entrada
+        TipoDato de = TipoDato.resolver(tipoEntrada);
+        if (de == null) {
+            salida.mostrarString("Tipo de entrada no válido.");
+            return true;
+        }
+
+        // Capturamos SIEMPRE como String
+        EventoLectura lectura = new EventoLectura();
+        lectura.begin();
+        String raw = entrada.ingresarString("Ingrese el valor");
+        if (lectura.shouldCommit()) {
+            lectura.tipoEntrada = de.nombre();
+            lectura.agotada = raw == null;
+            lectura.commit();
+        }
+
+        // Paso 2: usamos el AdaptadorEntrada para convertir al tipo correcto
+        if (!convertirEntrada(de, raw)) {
+            salida.mostrarString("Error: El valor ingresado no es un " + tipoEntrada + " válido.");
+            return true;
+        }
+        long nanosParseo = conversiones != null ? System.nanoTime() - inicioValor : 0;
+
+        // Paso 3: preguntar tipo de salida
+        String tipoSalida = entrada.ingresarString(
+            "¿En qué tipo de dato desea ver el valor? (string/int/boolean/float/double)"
+        );
+        if (tipoSalida == null) {
+            return false;
+        }
+
+        // Validar conversión
+        TipoDato a = TipoDato.resolver(tipoSalida);
+        if (!esConversionValida(de, a, tipoSalida)) {
+            salida.mostrarString("Error: No se puede convertir de " + tipoEntrada + " a " + tipoSalida);
+            return true;
+        }
+
+        // Paso 4: convertir directamente al tipo de salida y mostrar. Como en
+        // lote, las métricas cuentan parseo, conversión y salida, pero no la
+        // espera por el tipo de salida
+        if (conversiones != null) {
+            inicioValor = System.nanoTime() - nanosParseo;
+        }
+        mostrarConvertido(de, a, MatrizConversion.obtener(de, a));
+        return true;
+    }
+
+    /**
+     * Modo por lotes: pregunta una sola vez los tipos de entrada y salida
+     * y luego convierte todos los valores hasta que la Entrada se agote.
+     */
+    public void ejecutarLote() {
+        String tipoEntrada = entrada.ingresarString(
+            "¿Qué tipo de dato desea ingresar? (string/int/boolean/float/double)"
+        );
+        String tipoSalida = entrada.ingresarString(
+            "¿En qué tipo de dato desea ver los valores? (string/int/boolean/float/double)"
+        );
+        ejecutarLote(tipoEntrada, tipoSalida);
+    }
+
+    /**
+     * Modo por lotes con los tipos ya conocidos.
+     * La conversión se valida una única vez para todo el flujo de valores.
+     */
+    public void ejecutarLote(String tipoEntrada, String tipoSalida) {
+        try {
+            convertirLote(tipoEntrada, tipoSalida);
+        } finally {
+            vaciar();
+        }
+    }
+
+    private void convertirLote(String tipoEntrada, String tipoSalida) {
+        if (tipoEntrada == null || tipoSalida == null) {
+            return;
+        }
+        TipoDato de = TipoDato.resolver(tipoEntrada);
+        if (de == null) {
+            salida.mostrarString("Tipo de entrada no válido.");
+            return;
+        }
+        TipoDato a = TipoDato.resolver(tipoSalida);
+        if (!esConversionValida(de, a, tipoSalida)) {
+            salida.mostrarString("Error: No se puede convertir de " + tipoEntrada + " a " + tipoSalida);
+            return;
+        }
+
+        Conversor conversor = MatrizConversion.obtener(de, a);
+        if (de == TipoDato.INT || de == TipoDato.FLOAT || de == TipoDato.DOUBLE) {
+            convertirBloques(de, a, conversor, tipoEntrada);
+            return;
+        }
+        // Un evento Lote resume cada bloque de EventoLote.VALORES valores
+        EventoLote lote = new EventoLote();
+        lote.begin();
+        int valores = 0;
+        int invalidos = 0;
+        int errores = 0;
+        String raw;
+        while ((raw = siguienteValor(de)) != null) {
+            valores++;
+            if (!convertirEntrada(de, raw)) {
+                invalidos++;
+                salida.mostrarString("Error: El valor ingresado no es un " + tipoEntrada + " válido.");
+            } else if (!mostrarConvertido(de, a, conversor)) {
+                errores++;
+            }
+            if (valores == EventoLote.VALORES) {
+                emitir(lote, de, a, valores, invalidos, errores);
+                lote = new EventoLote();
+                lote.begin();
+                valores = 0;
+                invalidos = 0;
+                errores = 0;
+            }
+        }
+        if (valores > 0) {
+            emitir(lote, de, a, valores, invalidos, errores);
+        }
+    }
+
+    /**
+     * Modo por lotes para entradas numéricas: lee bloques de hasta BLOQUE
+     * valores con los ingresar*s de la Entrada y, si la salida es numérica, los
+     * convierte en el lugar y los muestra con los mostrar*s de la Salida. La
+     * salida es la misma que convirtiendo de a uno; los eventos Lectura son
+     * por bloque y las métricas reparten el tiempo del bloque entre sus valores.
+     */
+    private void convertirBloques(TipoDato de, TipoDato a, Conversor conversor, String tipoEntrada) {
+        if (de == TipoDato.INT && enteros == null) {
+            enteros = new int[BLOQUE];
+        }
+        if ((de == TipoDato.FLOAT || a == TipoDato.FLOAT) && flotantes == null) {
+            flotantes = new float[BLOQUE];
+        }
+        if ((de == TipoDato.DOUBLE || a == TipoDato.DOUBLE) && dobles == null) {
+            dobles = new double[BLOQUE];
+        }
+        EventoLote lote = new EventoLote();
+        lote.begin();
+        int valores = 0;
+        int invalidos = 0;
+        while (true) {
+            long inicio = conversiones != null ? System.nanoTime() : 0;
+            // Los bloques no cruzan el límite de un evento Lote
+            int pedidos = Math.min(BLOQUE, EventoLote.VALORES - valores);
+            int n = leerBloque(de, pedidos);
+            int leidos = n < 0 ? ~n : n;
+            if (leidos > 0) {
+                mostrarBloque(de, a, conversor, leidos);
+                if (conversiones != null) {
+                    conversiones.par(de, a).registrarBloque(inicio, leidos);
+                }
+            }
+            valores += leidos;
+            if (n < 0) {
+                valores++;
+                invalidos++;
+                if (conversiones != null) {
+                    conversiones.invalidos(de).sumar(1);
+                }
+                salida.mostrarString("Error: El valor ingresado no es un " + tipoEntrada + " válido.");
+            } else if (leidos < pedidos) {
+                break;
+            }
+            if (valores == EventoLote.VALORES) {
+                emitir(lote, de, a, valores, invalidos, 0);
+                lote = new EventoLote();
+                lote.begin();
+                valores = 0;
+                invalidos = 0;
+            }
+        }
+        if (valores > 0) {
+            emitir(lote, de, a, valores, invalidos, 0);
+        }
+    }
+
+    /**
+     * Lee un bloque de la Entrada en el arreglo del tipo de entrada, con el
+     * contrato de los ingresar*s.
+     */
+    private int leerBloque(TipoDato de, int pedidos) {
+        EventoLectura evento = new EventoLectura();
+        evento.begin();
+        int n = switch (de) {
+            case INT -> entrada.ingresarInts(enteros, 0, pedidos, adaptadorEntrada);
+            case FLOAT -> entrada.ingresarFloats(flotantes, 0, pedidos, adaptadorEntrada);
+            case DOUBLE -> entrada.ingresarDoubles(dobles, 0, pedidos, adaptadorEntrada);
+            default -> throw new IllegalArgumentException(de.nombre());
+        };
+        if (evento.shouldCommit()) {
+            evento.tipoEntrada = de.nombre();
+            evento.agotada = n >= 0 && n < pedidos;
+            evento.commit();
+        }
+        return n;
+    }
+
+    /**
+     * Muestra los primeros n valores del bloque convertidos al tipo a. Las
+     * conversiones numéricas son las de MatrizConversion, hechas en el lugar;
+     * a string se pasa por el conversor de a un valor.
+     */
+    private void mostrarBloque(TipoDato de, TipoDato a, Conversor conversor, int n) {
+        if (a == TipoDato.STRING) {
+            for (int i = 0; i < n; i++) {
+                switch (de) {
+                    case INT -> valor.ponerInt(enteros[i]);
+                    case FLOAT -> valor.ponerFloat(flotantes[i]);
+                    default -> valor.ponerDouble(dobles[i]);
+                }
+                conversor.convertir(valor, contexto);
+            }
+            return;
+        }
+        if (a == TipoDato.FLOAT && de != TipoDato.FLOAT) {
+            for (int i = 0; i < n; i++) {
+                flotantes[i] = de == TipoDato.INT ? (float) enteros[i] : MatrizConversion.doubleAFloat(dobles[i], contexto);
+            }
+        } else if (a == TipoDato.DOUBLE && de != TipoDato.DOUBLE) {
+            for (int i = 0; i < n; i++) {
+                dobles[i] = de == TipoDato.INT ? (double) enteros[i] : MatrizConversion.floatADouble(flotantes[i], contexto);
+            }
+        }
+        switch (a) {
+            case INT -> salida.mostrarInts(enteros, 0, n);
+            case FLOAT -> salida.mostrarFloats(flotantes, 0, n);
+            case DOUBLE -> salida.mostrarDoubles(dobles, 0, n);
+            default -> throw new IllegalArgumentException(a.nombre());
+        }
+    }
+
+    private static void emitir(EventoLote lote, TipoDato de, TipoDato a, int valores, int invalidos, int errores) {
+        if (lote.shouldCommit()) {
+            lote.tipoEntrada = de.nombre();
+            lote.tipoSalida = a.nombre();
+            lote.valores = valores;
+            lote.invalidos = invalidos;
+            lote.errores = errores;
+            lote.commit();
+        }
+    }
+
+    /**
+     * Lee el siguiente valor crudo de la Entrada (null al agotarse).
+     * El tipo de entrada, si ya se conoce, sólo se usa en el evento Lectura.
+     */
+    private String siguienteValor(TipoDato tipoEntrada) {
+        EventoLectura evento = new EventoLectura();
+        evento.begin();
+        String raw = entrada.siguienteValor();
+        if (evento.shouldCommit()) {
+            evento.tipoEntrada = tipoEntrada == null ? null : tipoEntrada.nombre();
+            evento.agotada = raw == null;
+            evento.commit();
+        }
+        return raw;
+    }
+
+    /**
+     * Envía a su destino lo que la Salida tenga acumulado.
+     */
+    private void vaciar() {
+        EventoEscritura evento = new EventoEscritura();
+        evento.begin();
+        long antes = evento.isEnabled() ? MetricasConversion.escritosHilo() : 0;
+        boolean escrita = false;
+        try {
+            salida.vaciar();
+            escrita = true;
+        } finally {
+            // También si vaciar falla (escrita = false); bytes son los que la
+            // Salida entregó a su destino, contados por MetricasConversion.escritos
+            if (evento.shouldCommit()) {
+                evento.escrita = escrita;
+                evento.bytes = MetricasConversion.escritosHilo() - antes;
+                evento.commit();
+            }
+        }
+    }
+
+    /**
+     * Protocolo compacto: cada línea de la Entrada es una petición completa
+     * "tipoEntrada tipoSalida valor" (el valor es el resto de la línea) y cada
+     * petición produce exactamente una línea en la Salida, en el mismo orden.
+     * Así un cliente puede enviar muchas peticiones seguidas sin esperar respuestas.
+     */
+    public void ejecutarPeticiones() {
+        try {
+            String linea;
+            while ((linea = siguienteValor(null)) != null) {
+                convertirPeticion(linea);
+            }
+        } finally {
+            vaciar();
+        }
+    }
+
+    private void convertirPeticion(String linea) {
+        int fin = linea.length();
+        int finEntrada = linea.indexOf(' ');
+        if (finEntrada < 0) {
+            finEntrada = fin;
+        }
+        int finSalida = linea.indexOf(' ', Math.min(finEntrada + 1, fin));
+        if (finSalida < 0) {
+            finSalida = fin;
+        }
+        int desdeValor = Math.min(finSalida + 1, fin);
+
+        // Mismos pasos y mensajes que el diálogo: tipo de entrada, valor, tipo de salida
+        TipoDato de = TipoDato.resolver(linea, 0, finEntrada);
+        if (de == null) {
+            salida.mostrarString("Tipo de entrada no válido.");
+            return;
+        }
+        if (!convertirEntrada(de, linea, desdeValor, fin - desdeValor)) {
+            salida.mostrarString("Error: El valor ingresado no es un " + linea.substring(0, finEntrada) + " válido.");
+            return;
+        }
+        TipoDato a = TipoDato.resolver(linea, Math.min(finEntrada + 1, fin), finSalida);
+        if (!esConversionValida(de, a, null)) {
+            salida.mostrarString("Error: No se puede convertir de " + linea.substring(0, finEntrada)
+                + " a " + linea.substring(Math.min(finEntrada + 1, fin), finSalida));
+            return;
+        }
+        mostrarConvertido(de, a, MatrizConversion.obtener(de, a));
+    }
+
+    /**
+     * Convierte el valor crudo al tipo de entrada usando el AdaptadorEntrada y
+     * lo deja en valor, sin encajonarlo. Usa los métodos intentar* para no
+     * lanzar excepciones con valores inválidos; en ese caso devuelve false.
+     */
+    private boolean convertirEntrada(TipoDato tipoEntrada, String raw) {
+        if (raw == null && tipoEntrada != TipoDato.STRING && tipoEntrada != TipoDato.BOOLEAN) {
+            return false;
+        }
+        return convertirEntrada(tipoEntrada, raw, 0, raw == null ? 0 : raw.length());
+    }
+
+    /**
+     * Igual que convertirEntrada(TipoDato, String), pero sobre un rango de la línea.
+     * Si hay métricas activas, marca el inicio del valor y cuenta los inválidos.
+     */
+    private boolean convertirEntrada(TipoDato tipoEntrada, String linea, int desde, int longitud) {
+        EventoParseo evento = new EventoParseo();
+        evento.begin();
+        if (conversiones != null) {
+            inicioValor = System.nanoTime();
+        }
+        boolean valido = parsear(tipoEntrada, linea, desde, longitud);
+        if (conversiones != null && !valido) {
+            conversiones.invalidos(tipoEntrada).sumar(1);
+        }
+        if (evento.shouldCommit()) {
+            evento.tipoEntrada = tipoEntrada.nombre();
+            evento.valido = valido;
+            evento.commit();
+        }
+        return valido;
+    }
+
+    private boolean parsear(TipoDato tipoEntrada, String linea, int desde, int longitud) {
+        switch (tipoEntrada) {
+            case STRING -> valor.ponerTexto(adaptadorEntrada.toString(linea), desde, longitud);
+            case BOOLEAN -> valor.ponerBoolean(linea != null && adaptadorEntrada.toBoolean(linea, desde, longitud));
+            case INT -> {
+                return adaptadorEntrada.intentarInt(linea, desde, longitud, valor.primitivo(TipoDato.INT));
+            }
+            case FLOAT -> {
+                return adaptadorEntrada.intentarFloat(linea, desde, longitud, valor.primitivo(TipoDato.FLOAT));
+            }
+            case DOUBLE -> {
+                return adaptadorEntrada.intentarDouble(linea, desde, longitud, valor.primitivo(TipoDato.DOUBLE));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convierte el valor al tipo pedido con la matriz de conversión y lo muestra.
+     * Si hay métricas activas, lo cuenta en el par de tipos de la conversión.
+     * Devuelve false si el valor no se pudo convertir.
+     */
+    private boolean mostrarConvertido(TipoDato de, TipoDato a, Conversor conversor) {
+        EventoFormato evento = new EventoFormato();
+        evento.begin();
+        boolean convertido = conversor.convertir(valor, contexto);
+        if (conversiones != null) {
+            conversiones.par(de, a).registrar(inicioValor, convertido);
+        }
+        if (evento.shouldCommit()) {
+            evento.tipoEntrada = de.nombre();
+            evento.tipoSalida = a.nombre();
+            evento.convertido = convertido;
+            evento.commit();
+        }
+        if (!convertido) {
+            salida.mostrarString("Error: No se pudo convertir el valor al tipo solicitado.");
+        }
+        return convertido;
+    }
+
+    /**
+     * Cierra la Entrada y la Salida del cliente.
+     */
+    public void cerrar() {
+        entrada.cerrar();
+        salida.cerrar();
+    }
+
+    // Activado con --metricas en la línea de comandos
+    private static boolean metricas;
+
+    /**
+     * Envuelve la fábrica para medir sus productos si se pidieron métricas.
+     */
+    private static IOFactory fabrica(IOFactory factory) {
+        return metricas ? new InstrumentadaFactory(factory, Metricas.global()) : factory;
+    }
+
+    /**
+     * Método main: permite elegir el modo de entrada/salida y ejecuta el cliente.
+     */
+    public static void main(String[] args) throws Exception {
+        // Con --metricas se miden los métodos de Entrada, Salida y adaptadores
+        // y al terminar se muestra la tabla de latencias en la salida de error
+        if (List.of(args).contains("--metricas")) {
+            args = Arrays.stream(args).filter(a -> !a.equals("--metricas")).toArray(String[]::new);
+            metricas = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> Metricas.global().reporte(System.err)));
+        }
+
+        // Con --jmx se cuentan las conversiones por par de tipos y se publican
+        // en el MBean PatronAdapter:type=Conversiones (jconsole, jcmd, ...)
+        if (List.of(args).contains("--jmx")) {
+            args = Arrays.stream(args).filter(a -> !a.equals("--jmx")).toArray(String[]::new);
+            MetricasConversion.habilitar().registrarMBean();
+        }
+
+        // Con --prometheus puerto|archivo se exportan las mismas métricas en el
+        // formato de Prometheus: un número es un puerto HTTP en loopback y
+        // cualquier otro texto, un archivo que se reescribe periódicamente
+        int prometheus = List.of(args).indexOf("--prometheus");
+        if (prometheus >= 0 && prometheus + 1 == args.length) {
+            System.err.println("Uso: --prometheus puerto|archivo (falta el puerto o el archivo)");
+            System.exit(2);
+        }
+        if (prometheus >= 0) {
+            String destino = args[prometheus + 1];
+            List<String> resto = new ArrayList<>(List.of(args));
+            resto.subList(prometheus, prometheus + 2).clear();
+            args = resto.toArray(new String[0]);
+            ExportadorPrometheus exportador = new ExportadorPrometheus(MetricasConversion.habilitar(), Metricas.global());
+            if (!destino.isEmpty() && destino.chars().allMatch(Character::isDigit)) {
+                exportador.servir(Integer.parseInt(destino));
+            } else {
+                exportador.volcar(Path.of(destino));
+            }
+        }
+
+        // Modo por lotes: java Cliente lote [tipoEntrada tipoSalida] < valores.txt
+        if (args.length > 0 && args[0].equals("lote")) {
+            Cliente cliente = new Cliente(fabrica(new ConsolaNioFactory()));
+            if (args.length >= 3) {
+                cliente.ejecutarLote(args[1], args[2]);
+            } else {
+                cliente.ejecutarLote();
+            }
+            return;
+        }
+
+        // Archivos mapeados: java Cliente archivo entrada.txt salida.txt [tipoEntrada tipoSalida]
+        if (args.length >= 3 && args[0].equals("archivo")) {
+            Cliente cliente = new Cliente(fabrica(new ArchivoMapeadoFactory(Path.of(args[1]), Path.of(args[2]))));
+            try {
+                if (args.length >= 5) {
+                    cliente.ejecutarLote(args[3], args[4]);
+                } else {
+                    cliente.ejecutarLote();
+                }
+            } finally {
+                cliente.cerrar();
+            }
+            return;
+        }
+
+        // Conversión paralela: java Cliente paralelo entrada.txt salida.txt tipoEntrada tipoSalida [hilos]
+        if (args.length >= 5 && args[0].equals("paralelo")) {
+            int hilos = args.length >= 6 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+            new ConversionParalela(Path.of(args[1]), Path.of(args[2]), hilos).ejecutar(args[3], args[4]);
+            return;
+        }
+
+        // Servidor TCP o Unix: java Cliente servidor [puerto|ruta.sock] [--peticiones]
+        if (args.length > 0 && args[0].equals("servidor")) {
+            boolean peticiones = List.of(args).contains("--peticiones");
+            String direccion = args.length >= 2 && !args[1].startsWith("--") ? args[1] : "5000";
+            new ServidorConversion(ServidorConversion.direccion(direccion), peticiones).ejecutar();
+            return;
+        }
+
+        // Peticiones por línea sobre la entrada y salida estándar: java Cliente peticiones
+        if (args.length > 0 && args[0].equals("peticiones")) {
+            ServidorConversion.atenderPeticiones(new FileInputStream(FileDescriptor.in).getChannel(),
+                new FileOutputStream(FileDescriptor.out).getChannel());
+            return;
+        }
+
+        // Convertidor por memoria compartida: java Cliente anillo archivo [girar|estacionar]
+        if (args.length >= 2 && args[0].equals("anillo")) {
+            EsperaAnillo espera = args.length >= 3 ? EsperaAnillo.valueOf(args[2].toUpperCase()) : EsperaAnillo.ESTACIONAR;
+            Cliente cliente = new Cliente(fabrica(new AnilloFactory(Path.of(args[1]), espera)));
+            System.out.println("Anillo de conversiones en " + args[1]);
+            try {
+                cliente.ejecutarPeticiones();
+            } finally {
+                cliente.cerrar();
+            }
+            return;
+        }
+
+        // Formato binario:
+        //   java Cliente binario a-binario texto.txt salida.bin tipo
+        //   java Cliente binario a-texto entrada.bin salida.txt
+        //   java Cliente binario convertir entrada.bin salida.bin tipoSalida
+        if (args.length >= 4 && args[0].equals("binario")) {
+            Path origen = Path.of(args[2]);
+            Path destino = Path.of(args[3]);
+            String tipo = args.length >= 5 ? args[4] : null;
+            switch (args[1]) {
+                case "a-binario" -> {
+                    Cliente cliente = new Cliente(new EntradaMapeada(origen), SalidaBinaria.crear(destino));
+                    try {
+                        cliente.ejecutarLote(tipo, tipo);
+                    } finally {
+                        cliente.cerrar();
+                    }
+                }
+                case "a-texto" -> {
+                    EntradaBinaria entrada = EntradaBinaria.mapear(origen);
+                    try (OutputStream texto = Files.newOutputStream(destino)) {
+                        ConversionBinaria.aTexto(entrada, texto);
+                    } finally {
+                        entrada.cerrar();
+                    }
+                }
+                case "convertir" -> {
+                    EntradaBinaria entrada = EntradaBinaria.mapear(origen);
+                    Salida salida = SalidaBinaria.crear(destino);
+                    try {
+                        ConversionBinaria.convertir(entrada, salida, tipo);
+                    } finally {
+                        entrada.cerrar();
+                        salida.cerrar();
+                    }
+                }
+                default -> System.out.println("Opción no válida: " + args[1]);
+            }
+            return;
+        }
+
+        // Latencia de ida y vuelta por tubería, TCP, Unix y memoria compartida: java Cliente latencia [iteraciones]
+        if (args.length > 0 && args[0].equals("latencia")) {
+            LatenciaIpc.principal(args.length >= 2 ? Integer.parseInt(args[1]) : 100_000);
+            return;
+        }
+
+        // Generador de carga: java Cliente carga puerto|ruta.sock inactivas activas segundos [--peticiones]
+        if (args.length >= 5 && args[0].equals("carga")) {
+            boolean peticiones = List.of(args).contains("--peticiones");
+            new CargaConversion(ServidorConversion.direccion(args[1]), peticiones)
+                .ejecutar(Integer.parseInt(args[2]), Integer.parseInt(args[3]), Integer.parseInt(args[4]));
+            return;
+        }
+
+        // Servidor HTTP: java Cliente http [puerto]
+        if (args.length > 0 && args[0].equals("http")) {
+            new ServidorHttp(args.length >= 2 ? Integer.parseInt(args[1]) : 8080).iniciar();
+            return;
+        }
+
+        // Generador de carga HTTP: java Cliente carga-http puerto activas segundos [valores]
+        if (args.length >= 4 && args[0].equals("carga-http")) {
+            int valores = args.length >= 5 ? Integer.parseInt(args[4]) : 1_000_000;
+            new CargaHttp(Integer.parseInt(args[1])).ejecutar(Integer.parseInt(args[2]), Integer.parseInt(args[3]), valores);
+            return;
+        }
+
+        // Elegir la implementación: Consola o Frame
+        String choice = JOptionPane.showInputDialog(
+            "Seleccione el modo de entrada/salida:\n1. Consola\n2. Frame (JOptionPane)\n3. Consola NIO"
+        );
+
+        IOFactory factory;
+        switch (choice) {
+            case "1" -> factory = new ConsoleFactory();
+            case "2" -> factory = new FrameFactory();
+            case "3" -> factory = new ConsolaNioFactory();
+            default -> {
+                System.out.println("Opción no válida. Saliendo...");
+                return;
+            }
+        }
+
+        Cliente cliente = new Cliente(fabrica(factory));
+        cliente.ejecutar();
+    }   
+}
@@ -0,0 +1,17 @@
+package patronadapter;
+
+/**
+ * Factory para crear Entrada y Salida de consola sobre canales NIO.
+ * Alternativa a ConsoleFactory pensada para volúmenes grandes de datos.
+ */
+class ConsolaNioFactory implements IOFactory {
+    @Override
+    public Entrada crearEntrada() {
+        return EntradaCanal.consola();
+    }
+
+    @Override
+    public Salida crearSalida() {
+        return SalidaCanal.consola();
+    }
+}
@@ -0,0 +1,70 @@
+package patronadapter;
+
+/**
+ * Implementación de Entrada usando la consola (Scanner).
+ */
+class ConsoleEntrada implements Entrada {
+    private final java.util.Scanner sc = new java.util.Scanner(System.in);
+    private final AdaptadorEntrada adaptador = new AdaptadorEntradaConsola();
+    private final ResultadoParseo resultado = new ResultadoParseo();
+
+    @Override
+    public String ingresarString(String mensaje) {
+        System.out.print(mensaje + ": ");
+        return sc.nextLine();
+    }
+
+    @Override
+    public String siguienteValor() {
+        // En modo por lotes no se muestra mensaje por cada valor
+        return sc.hasNextLine() ? sc.nextLine() : null;
+    }
+    
+    @Override
+    public boolean ingresarBoolean(String mensaje) {
+        while (true) {
+            System.out.print(mensaje + " (true/false): ");
+            String input = sc.nextLine();
+            if (adaptador.intentarBoolean(input, 0, input.length(), resultado)) {
+                return resultado.booleano();
+            }
+            System.out.println("Por favor, ingrese 'true' o 'false'.");
+        }
+    }
+    
+    @Override
+    public int ingresarInt(String mensaje) {
+        while (true) {
+            System.out.print(mensaje + ": ");
+            String input = sc.nextLine();
+            if (adaptador.intentarInt(input, 0, input.length(), resultado)) {
+                return resultado.entero();
+            }
+            System.out.println("Por favor, ingrese un número entero válido.");
+        }
+    }
+    
+    @Override
+    public float ingresarFloat(String mensaje) {
+        while (true) {
+            System.out.print(mensaje + ": ");
+            String input = sc.nextLine();
+            if (adaptador.intentarFloat(input, 0, input.length(), resultado)) {
+                return resultado.flotante();
+            }
+            System.out.println("Por favor, ingrese un número decimal válido.");
+        }
+    }
+    
+    @Override
+    public double ingresarDouble(String mensaje) {
+        while (true) {
+            System.out.print(mensaje + ": ");
+            String input = sc.nextLine();
+            if (adaptador.intentarDouble(input, 0, input.length(), resultado)) {
+                return resultado.doble();
+            }
+            System.out.println("Por favor, ingrese un número decimal válido.");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package patronadapter;
+
+/**
+ * Factory para crear Entrada y Salida de consola.
+ */
+class ConsoleFactory implements IOFactory {
+    @Override
+    public Entrada crearEntrada() {
+        return new ConsoleEntrada();
+    }
+    
+    @Override
+    public Salida crearSalida() {
+        return new ConsoleSalida();
+    }
+}
@@ -0,0 +1,49 @@
+package patronadapter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Implementación de Salida usando la consola (System.out).
+ */
+class ConsoleSalida implements Salida {
+    private static final byte[] INT = "Int: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FLOAT = "Float: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DOUBLE = "Double: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIN_LINEA = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    // Línea reutilizada para los números: etiqueta, dígitos y fin de línea
+    // van a System.out como bytes ASCII, sin concatenar Strings
+    private final AdaptadorSalida formato = new AdaptadorSalidaRapido();
+    private final byte[] linea = new byte[DOUBLE.length + EscritorDecimal.MAXIMO_DOUBLE + FIN_LINEA.length];
+
+    @Override
+    public void mostrarString(String dato) {
+        System.out.println("String: " + dato);
+    }
+    
+    @Override
+    public void mostrarBoolean(boolean dato) {
+        System.out.println("Boolean: " + dato);
+    }
+    
+    @Override
+    public void mostrarInt(int dato) {
+        mostrarLinea(INT, formato.escribirInt(dato, linea, INT.length));
+    }
+    
+    @Override
+    public void mostrarFloat(float dato) {
+        mostrarLinea(FLOAT, formato.escribirFloat(dato, linea, FLOAT.length));
+    }
+    
+    @Override
+    public void mostrarDouble(double dato) {
+        mostrarLinea(DOUBLE, formato.escribirDouble(dato, linea, DOUBLE.length));
+    }
+
+    private void mostrarLinea(byte[] etiqueta, int fin) {
+        System.arraycopy(etiqueta, 0, linea, 0, etiqueta.length);
+        System.arraycopy(FIN_LINEA, 0, linea, fin, FIN_LINEA.length);
+        System.out.write(linea, 0, fin + FIN_LINEA.length);
+    }
+}
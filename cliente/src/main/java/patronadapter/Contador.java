@@ -0,0 +1,26 @@
+package patronadapter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contador repartido en las mismas franjas por hilo que Histograma, cada una
+ * en su propia línea de caché: sumar casi nunca compite con otros hilos y
+ * leer junta las franjas sin bloquear a nadie.
+ */
+final class Contador {
+    private static final int FRANJA = 16;
+
+    private final AtomicLongArray celdas = new AtomicLongArray(Histograma.FRANJAS * FRANJA);
+
+    void sumar(long cantidad) {
+        Histograma.sumar(celdas, FRANJA, 0, cantidad);
+    }
+
+    long valor() {
+        long total = 0;
+        for (int i = 0; i < Histograma.FRANJAS * FRANJA; i += FRANJA) {
+            total += celdas.get(i);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,21 @@
+package patronadapter;
+
+/**
+ * Lo que necesita un Conversor para trabajar: adaptadores, Salida y un
+ * resultado reutilizable para los parseos sin excepciones.
+ * Cada Cliente tiene el suyo, por lo que no se comparte entre hilos.
+ */
+final class ContextoConversion {
+    final AdaptadorEntrada lector;
+    final AdaptadorSalida formato;
+    final Salida salida;
+    final ResultadoParseo temporal = new ResultadoParseo();
+    // Texto intermedio de las conversiones float <-> double
+    final byte[] digitos = new byte[EscritorDecimal.MAXIMO_DOUBLE];
+
+    ContextoConversion(AdaptadorEntrada lector, AdaptadorSalida formato, Salida salida) {
+        this.lector = lector;
+        this.formato = formato;
+        this.salida = salida;
+    }
+}
@@ -0,0 +1,60 @@
+package patronadapter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Herramienta de conversión del formato binario:
+ *   aTexto:   cada valor binario a una línea de texto (la vista de ingresarString)
+ *   convertir: cada valor binario a otro tipo, en binario, sin pasar por texto
+ * La conversión de texto a binario es un Cliente.ejecutarLote con SalidaBinaria.
+ */
+final class ConversionBinaria {
+    private ConversionBinaria() {
+    }
+
+    static void aTexto(EntradaBinaria entrada, OutputStream destino) throws IOException {
+        try (Writer texto = new BufferedWriter(new OutputStreamWriter(destino, StandardCharsets.UTF_8), 64 << 10)) {
+            String valor;
+            while ((valor = entrada.siguienteValor()) != null) {
+                texto.write(valor);
+                texto.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Convierte cada valor leído a tipoSalida con la matriz de conversión, con
+     * los mismos mensajes de error que Cliente (escritos como strings).
+     */
+    static void convertir(EntradaBinaria entrada, Salida salida, String tipoSalida) {
+        TipoDato a = TipoDato.resolver(tipoSalida);
+        if (a == null) {
+            salida.mostrarString("Tipo de salida no válido.");
+            return;
+        }
+        ContextoConversion contexto = new ContextoConversion(new AdaptadorEntradaRapido(), new AdaptadorSalidaRapido(), salida);
+        Valor valor = new Valor();
+        // El tipo se conoce después de leer; primitivo() devuelve siempre el mismo resultado
+        ResultadoParseo leido = valor.primitivo(null);
+        TipoDato de;
+        while ((de = entrada.leer(leido)) != null) {
+            if (!de.permite(a)) {
+                salida.mostrarString("Error: No se puede convertir de " + de.nombre() + " a " + tipoSalida);
+                continue;
+            }
+            if (de == TipoDato.STRING) {
+                valor.ponerTexto(entrada.texto());
+            } else {
+                valor.primitivo(de);
+            }
+            if (!MatrizConversion.obtener(de, a).convertir(valor, contexto)) {
+                salida.mostrarString("Error: No se pudo convertir el valor al tipo solicitado.");
+            }
+        }
+    }
+}
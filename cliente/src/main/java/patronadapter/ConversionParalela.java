@@ -0,0 +1,158 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Convierte un archivo grande en paralelo: lo divide en bloques que terminan
+ * en un salto de línea, convierte cada bloque con su propio Cliente (mismos
+ * adaptadores y matriz de conversión) en un ForkJoinPool, y escribe las
+ * salidas en el orden original. Solo se corta después de '\n', así que un
+ * archivo con saltos de línea '\r' sueltos se procesa como un único bloque.
+ * Las salidas de los bloques en curso ocupan a lo sumo memoriaEnCurso()
+ * bytes. ParaleloBenchmark mide la escala con la cantidad de hilos; con
+ * varios núcleos todavía no se corrió (ver README).
+ */
+class ConversionParalela {
+    static final int TAMANO_BLOQUE = 8 << 20;
+
+    private final Path entrada;
+    private final Path salida;
+    private final int hilos;
+
+    ConversionParalela(Path entrada, Path salida, int hilos) {
+        this.entrada = entrada;
+        this.salida = salida;
+        this.hilos = hilos;
+    }
+
+    /**
+     * Convierte todos los valores del archivo de entrada de tipoEntrada a tipoSalida.
+     */
+    void ejecutar(String tipoEntrada, String tipoSalida) throws IOException {
+        Charset charset = Charset.defaultCharset();
+        try (FileChannel in = FileChannel.open(entrada, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(salida, StandardOpenOption.CREATE,
+                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            // La validación (y su mensaje de error) se hace una sola vez
+            TipoDato de = TipoDato.resolver(tipoEntrada);
+            TipoDato a = TipoDato.resolver(tipoSalida);
+            if (de == null || a == null || !de.permite(a)) {
+                SalidaMemoria error = new SalidaMemoria(256, charset);
+                new Cliente(new EntradaMemoria(), error).ejecutarLote(tipoEntrada, tipoSalida);
+                escribir(out, error.resultado());
+                return;
+            }
+
+            List<long[]> bloques = dividir(in);
+            long limite = memoriaEnCurso();
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            // Ventana de bloques en curso acotada por los bytes de sus salidas
+            // en memoria (no por la cantidad de bloques), con al menos un bloque
+            Deque<ForkJoinTask<ByteBuffer>> pendientes = new ArrayDeque<>();
+            try {
+                long enCurso = 0;
+                int siguiente = 0;
+                while (siguiente < bloques.size() || !pendientes.isEmpty()) {
+                    while (siguiente < bloques.size()
+                            && (pendientes.isEmpty() || enCurso + capacidadSalida(bloques.get(siguiente)) <= limite)) {
+                        long[] bloque = bloques.get(siguiente++);
+                        enCurso += capacidadSalida(bloque);
+                        ByteBuffer datos = in.map(FileChannel.MapMode.READ_ONLY, bloque[0], bloque[1] - bloque[0]);
+                        pendientes.add(pool.submit(() -> convertirBloque(datos, tipoEntrada, tipoSalida, charset)));
+                        MetricasConversion.bloquesEnCurso(1);
+                    }
+                    // Los bloques se escriben en orden: el más antiguo en curso es éste
+                    long[] hecho = bloques.get(siguiente - pendientes.size());
+                    escribir(out, pendientes.poll().join());
+                    MetricasConversion.bloquesEnCurso(-1);
+                    enCurso -= capacidadSalida(hecho);
+                }
+            } finally {
+                MetricasConversion.bloquesEnCurso(-pendientes.size());
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Bytes de salida que pueden estar en memoria a la vez: un cuarto del heap.
+     */
+    static long memoriaEnCurso() {
+        return Runtime.getRuntime().maxMemory() / 4;
+    }
+
+    /**
+     * Capacidad inicial de la salida de un bloque [inicio, fin): el doble de su
+     * tamaño, que alcanza para las etiquetas de casi todas las conversiones.
+     */
+    private static int capacidadSalida(long[] bloque) {
+        return capacidadSalida(bloque[1] - bloque[0]);
+    }
+
+    private static int capacidadSalida(long bytes) {
+        return SalidaMemoria.capacidad(Math.max(1024, 2L * bytes));
+    }
+
+    private static ByteBuffer convertirBloque(ByteBuffer datos, String tipoEntrada, String tipoSalida, Charset charset) {
+        SalidaMemoria salida = new SalidaMemoria(capacidadSalida(datos.remaining()), charset);
+        new Cliente(new EntradaBloque(datos, charset), salida).ejecutarLote(tipoEntrada, tipoSalida);
+        return salida.resultado();
+    }
+
+    /**
+     * Divide el archivo en rangos [inicio, fin) de unos TAMANO_BLOQUE bytes,
+     * cada uno terminado justo después de un '\n' (salvo el último).
+     */
+    private static List<long[]> dividir(FileChannel in) throws IOException {
+        long tamano = in.size();
+        List<long[]> bloques = new ArrayList<>();
+        ByteBuffer busqueda = ByteBuffer.allocate(64 << 10);
+        long inicio = 0;
+        while (inicio < tamano) {
+            long fin = Math.min(tamano, inicio + TAMANO_BLOQUE);
+            // Avanzar hasta el próximo salto de línea
+            while (fin < tamano) {
+                busqueda.clear();
+                int leidos = in.read(busqueda, fin);
+                int salto = -1;
+                for (int i = 0; i < leidos; i++) {
+                    if (busqueda.get(i) == '\n') {
+                        salto = i;
+                        break;
+                    }
+                }
+                if (salto >= 0) {
+                    fin += salto + 1;
+                    break;
+                }
+                fin += Math.max(leidos, 0);
+            }
+            fin = Math.min(fin, tamano);
+            // Un bloque mapeado no puede superar 2 GiB
+            if (fin - inicio > Integer.MAX_VALUE) {
+                throw new IOException("Línea demasiado larga para dividir el archivo en bloques");
+            }
+            bloques.add(new long[]{inicio, fin});
+            inicio = fin;
+        }
+        return bloques;
+    }
+
+    private static void escribir(FileChannel out, ByteBuffer datos) throws IOException {
+        while (datos.hasRemaining()) {
+            out.write(datos);
+        }
+    }
+}
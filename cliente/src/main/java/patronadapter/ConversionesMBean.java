@@ -0,0 +1,247 @@
+package patronadapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+/**
+ * MBean de solo lectura con las métricas de conversión. Los atributos salen
+ * de TipoDato.permite: "int->double.Conversiones", "int->double.Errores",
+ * "int->double.P50Nanos", "int->double.P99Nanos" por cada par,
+ * "int.NumberFormatException" por cada tipo de entrada, y los totales
+ * Conversiones, Errores, NumberFormatException y ValoresPorSegundo. Las
+ * profundidades de cola son BloquesEnCurso (modo paralelo), Sesiones (modo
+ * servidor) y AnilloPeticionesBytes/AnilloRespuestasBytes (convertidor de
+ * memoria compartida); valen 0 en los demás modos.
+ *
+ * Cada lectura toma instantáneas de los histogramas, así que nunca bloquea a
+ * los hilos que convierten. ValoresPorSegundo es el ritmo en los últimos
+ * VENTANA_SEGUNDOS, de un muestreo por segundo del total de conversiones que
+ * hace un hilo propio: leer el atributo no cambia lo que ven otros lectores.
+ * P50Nanos y P99Nanos miden parseo, conversión y salida de cada valor, sin
+ * esperas por la Entrada, en todos los modos.
+ */
+final class ConversionesMBean implements DynamicMBean {
+    static final ObjectName NOMBRE;
+
+    static {
+        try {
+            NOMBRE = new ObjectName("PatronAdapter:type=Conversiones");
+        } catch (MalformedObjectNameException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static final int VENTANA_SEGUNDOS = 10;
+
+    private final MetricasConversion metricas;
+    private final MBeanInfo info;
+
+    // Anillo de VENTANA_SEGUNDOS + 1 muestras (instante, total) para
+    // ValoresPorSegundo, escrito solo por el hilo de muestreo
+    private final long[] muestrasNanos = new long[VENTANA_SEGUNDOS + 1];
+    private final long[] muestrasTotal = new long[VENTANA_SEGUNDOS + 1];
+    private int muestras;
+
+    ConversionesMBean(MetricasConversion metricas) {
+        this.metricas = metricas;
+        List<MBeanAttributeInfo> atributos = new ArrayList<>();
+        atributos.add(atributo("Conversiones", "long", "Valores convertidos, con o sin error"));
+        atributos.add(atributo("Errores", "long", "Valores que no se pudieron convertir al tipo de salida"));
+        atributos.add(atributo("NumberFormatException", "long", "Valores que no eran del tipo de entrada"));
+        atributos.add(atributo("ValoresPorSegundo", "double",
+            "Conversiones por segundo en los últimos " + VENTANA_SEGUNDOS + " segundos"));
+        atributos.add(atributo("BloquesEnCurso", "long", "Bloques del modo paralelo convertidos o por escribir"));
+        atributos.add(atributo("Sesiones", "long", "Conexiones abiertas del servidor"));
+        atributos.add(atributo("AnilloPeticionesBytes", "long", "Peticiones en el anillo todavía sin leer"));
+        atributos.add(atributo("AnilloRespuestasBytes", "long", "Respuestas en el anillo todavía sin leer"));
+        for (TipoDato de : TipoDato.values()) {
+            atributos.add(atributo(de.nombre() + ".NumberFormatException", "long",
+                "Valores que no eran " + de.nombre()));
+            for (TipoDato a : TipoDato.values()) {
+                if (de.permite(a)) {
+                    String par = de.nombre() + "->" + a.nombre();
+                    atributos.add(atributo(par + ".Conversiones", "long", "Valores convertidos de " + par));
+                    atributos.add(atributo(par + ".Errores", "long", "Conversiones fallidas de " + par));
+                    atributos.add(atributo(par + ".P50Nanos", "long",
+                        "Mediana del tiempo por valor: parseo, conversión y salida"));
+                    atributos.add(atributo(par + ".P99Nanos", "long",
+                        "Percentil 99 del tiempo por valor: parseo, conversión y salida"));
+                }
+            }
+        }
+        this.info = new MBeanInfo(getClass().getName(), "Métricas de conversión del Cliente",
+            atributos.toArray(new MBeanAttributeInfo[0]), null, null, null);
+    }
+
+    private static MBeanAttributeInfo atributo(String nombre, String tipo, String descripcion) {
+        return new MBeanAttributeInfo(nombre, tipo, descripcion, true, false, false);
+    }
+
+    @Override
+    public Object getAttribute(String atributo) throws AttributeNotFoundException {
+        switch (atributo) {
+            case "Conversiones" -> {
+                return total(false);
+            }
+            case "Errores" -> {
+                return total(true);
+            }
+            case "NumberFormatException" -> {
+                long errores = 0;
+                for (TipoDato de : TipoDato.values()) {
+                    errores += metricas.invalidos(de).valor();
+                }
+                return errores;
+            }
+            case "ValoresPorSegundo" -> {
+                return valoresPorSegundo();
+            }
+            case "BloquesEnCurso" -> {
+                return metricas.bloquesEnCurso.valor();
+            }
+            case "Sesiones" -> {
+                return metricas.sesiones.valor();
+            }
+            case "AnilloPeticionesBytes" -> {
+                return metricas.anillo(true);
+            }
+            case "AnilloRespuestasBytes" -> {
+                return metricas.anillo(false);
+            }
+            default -> {
+                return atributoPorTipo(atributo);
+            }
+        }
+    }
+
+    private long total(boolean errores) {
+        long total = 0;
+        for (TipoDato de : TipoDato.values()) {
+            for (TipoDato a : TipoDato.values()) {
+                Histograma par = metricas.par(de, a);
+                if (par != null) {
+                    Histograma.Instantanea i = par.instantanea();
+                    total += errores ? i.errores() : i.llamadas();
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Muestrea el total de conversiones una vez por segundo en un hilo daemon.
+     */
+    void muestrear() {
+        ScheduledExecutorService muestreo = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "muestreo-conversiones");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        muestreo.scheduleAtFixedRate(this::muestra, 0, 1, TimeUnit.SECONDS);
+    }
+
+    private void muestra() {
+        long total = total(false);
+        long ahora = System.nanoTime();
+        synchronized (this) {
+            int i = muestras++ % muestrasNanos.length;
+            muestrasNanos[i] = ahora;
+            muestrasTotal[i] = total;
+        }
+    }
+
+    /**
+     * Ritmo entre la muestra más antigua de la ventana y la más reciente;
+     * 0 hasta que hay dos muestras.
+     */
+    private synchronized double valoresPorSegundo() {
+        if (muestras < 2) {
+            return 0.0;
+        }
+        int ultima = (muestras - 1) % muestrasNanos.length;
+        int primera = muestras > muestrasNanos.length ? muestras % muestrasNanos.length : 0;
+        return (muestrasTotal[ultima] - muestrasTotal[primera]) * 1e9
+            / Math.max(1, muestrasNanos[ultima] - muestrasNanos[primera]);
+    }
+
+    private Object atributoPorTipo(String atributo) throws AttributeNotFoundException {
+        int punto = atributo.indexOf('.');
+        int flecha = atributo.indexOf("->");
+        String medida = atributo.substring(punto + 1);
+        if (punto > 0 && flecha < 0 && medida.equals("NumberFormatException")) {
+            TipoDato de = TipoDato.resolver(atributo, 0, punto);
+            if (de != null) {
+                return metricas.invalidos(de).valor();
+            }
+        } else if (flecha > 0 && punto > flecha) {
+            TipoDato de = TipoDato.resolver(atributo, 0, flecha);
+            TipoDato a = TipoDato.resolver(atributo, flecha + 2, punto);
+            Histograma par = de == null || a == null ? null : metricas.par(de, a);
+            if (par != null) {
+                Histograma.Instantanea i = par.instantanea();
+                switch (medida) {
+                    case "Conversiones" -> {
+                        return i.llamadas();
+                    }
+                    case "Errores" -> {
+                        return i.errores();
+                    }
+                    case "P50Nanos" -> {
+                        return i.percentil(0.50);
+                    }
+                    case "P99Nanos" -> {
+                        return i.percentil(0.99);
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+        throw new AttributeNotFoundException(atributo);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] atributos) {
+        AttributeList lista = new AttributeList();
+        for (String atributo : atributos) {
+            try {
+                lista.add(new Attribute(atributo, getAttribute(atributo)));
+            } catch (AttributeNotFoundException e) {
+                // Los atributos desconocidos se omiten, como pide DynamicMBean
+            }
+        }
+        return lista;
+    }
+
+    @Override
+    public void setAttribute(Attribute atributo) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Atributo de solo lectura: " + atributo.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList atributos) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String operacion, Object[] parametros, String[] firma) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(operacion));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        return info;
+    }
+}
@@ -0,0 +1,10 @@
+package patronadapter;
+
+/**
+ * Conversor directo de un valor ya leído hacia el tipo de salida.
+ * Envía el resultado a la Salida sin pasar por un String intermedio.
+ * Devuelve false si el valor no se pudo convertir al tipo solicitado.
+ */
+interface Conversor {
+    boolean convertir(Valor valor, ContextoConversion contexto);
+}
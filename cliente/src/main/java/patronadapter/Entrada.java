@@ -0,0 +1,97 @@
+package patronadapter;
+
+/**
+ * Interfaces para entrada y salida de datos.
+ * Permiten definir métodos genéricos para distintos tipos de entrada/salida.
+ */
+interface Entrada {
+    String ingresarString(String mensaje);
+    boolean ingresarBoolean(String mensaje);
+    int ingresarInt(String mensaje);
+    float ingresarFloat(String mensaje);
+    double ingresarDouble(String mensaje);
+
+    /**
+     * Lee el siguiente valor crudo para el modo por lotes.
+     * Devuelve null cuando ya no quedan valores por leer.
+     */
+    default String siguienteValor() {
+        return ingresarString("Ingrese el valor");
+    }
+
+    /**
+     * Métodos en bloque para el modo por lotes: leen hasta longitud valores en
+     * destino a partir de desde, sin mostrar mensajes, parseando con lector.
+     * Se detienen al final de los datos o en el primer valor que no es del
+     * tipo pedido, que se consume sin guardarlo, así que nunca consumen más de
+     * longitud valores. Devuelven cuántos valores leyeron, o ~leidos (como
+     * Arrays.binarySearch) si se detuvieron en un valor inválido. Por defecto
+     * usan siguienteValor() de a uno.
+     */
+    default int ingresarStrings(String[] destino, int desde, int longitud) {
+        int leidos = 0;
+        String valor;
+        while (leidos < longitud && (valor = siguienteValor()) != null) {
+            destino[desde + leidos++] = valor;
+        }
+        return leidos;
+    }
+
+    default int ingresarBooleans(boolean[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        ResultadoParseo r = new ResultadoParseo();
+        int leidos = 0;
+        String valor;
+        while (leidos < longitud && (valor = siguienteValor()) != null) {
+            if (!lector.intentarBoolean(valor, 0, valor.length(), r)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = r.booleano();
+        }
+        return leidos;
+    }
+
+    default int ingresarInts(int[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        ResultadoParseo r = new ResultadoParseo();
+        int leidos = 0;
+        String valor;
+        while (leidos < longitud && (valor = siguienteValor()) != null) {
+            if (!lector.intentarInt(valor, 0, valor.length(), r)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = r.entero();
+        }
+        return leidos;
+    }
+
+    default int ingresarFloats(float[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        ResultadoParseo r = new ResultadoParseo();
+        int leidos = 0;
+        String valor;
+        while (leidos < longitud && (valor = siguienteValor()) != null) {
+            if (!lector.intentarFloat(valor, 0, valor.length(), r)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = r.flotante();
+        }
+        return leidos;
+    }
+
+    default int ingresarDoubles(double[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        ResultadoParseo r = new ResultadoParseo();
+        int leidos = 0;
+        String valor;
+        while (leidos < longitud && (valor = siguienteValor()) != null) {
+            if (!lector.intentarDouble(valor, 0, valor.length(), r)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = r.doble();
+        }
+        return leidos;
+    }
+
+    /**
+     * Libera los recursos de la Entrada, si los tiene.
+     */
+    default void cerrar() {
+    }
+}
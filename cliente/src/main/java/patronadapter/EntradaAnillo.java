@@ -0,0 +1,36 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Entrada por líneas que consume el anillo de peticiones. Antes de quedarse
+ * esperando datos nuevos ejecuta alEsperar (por ejemplo, vaciar la Salida),
+ * así las respuestas de un lote salen juntas y nunca quedan retenidas.
+ */
+class EntradaAnillo extends EntradaLineas {
+    private final AnilloBytes anillo;
+    private final Runnable alEsperar;
+
+    EntradaAnillo(AnilloBytes anillo, Runnable alEsperar) {
+        super(ByteBuffer.allocate(64 << 10).limit(0), null, StandardCharsets.UTF_8);
+        this.anillo = anillo;
+        this.alEsperar = alEsperar;
+    }
+
+    @Override
+    protected boolean rellenar() {
+        asegurarEspacio();
+        buffer.compact();
+        int leidos;
+        try {
+            if (!anillo.hayDatos()) {
+                alEsperar.run();
+            }
+            leidos = anillo.leer(buffer);
+        } finally {
+            buffer.flip();
+        }
+        return leidos > 0;
+    }
+}
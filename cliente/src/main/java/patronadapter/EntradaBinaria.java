@@ -0,0 +1,395 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Entrada de valores en FormatoBinario leídos de un ByteBuffer, de un archivo
+ * mapeado por ventanas o de un canal en bloques grandes. leer() entrega cada
+ * valor con su tipo sin pasar por texto; los métodos de Entrada devuelven la
+ * vista en texto (ingresarString) o el valor del tipo pedido, saltando los de
+ * otro tipo, igual que las Entradas de texto saltan las líneas inválidas.
+ */
+class EntradaBinaria implements Entrada {
+    static final int TAMANO_BUFFER = 64 << 10;
+    static final int VENTANA = 64 << 20;
+
+    private final ReadableByteChannel canal;
+    // Archivo mapeado por ventanas, como en EntradaMapeada; base es el
+    // desplazamiento de la ventana actual dentro del archivo
+    private final FileChannel archivo;
+    private final long tamano;
+    private final int ventana;
+    private long base;
+    private final AdaptadorEntrada adaptador = new AdaptadorEntradaRapido();
+    private final ResultadoParseo resultado = new ResultadoParseo();
+    private ByteBuffer buffer;
+    private String texto;
+
+    /**
+     * Lee del canal en bloques de TAMANO_BUFFER bytes.
+     */
+    EntradaBinaria(ReadableByteChannel canal) {
+        this.canal = canal;
+        this.archivo = null;
+        this.tamano = 0;
+        this.ventana = 0;
+        this.buffer = ByteBuffer.allocate(TAMANO_BUFFER).limit(0);
+    }
+
+    /**
+     * Lee directamente del buffer dado, entre su position y su limit.
+     */
+    EntradaBinaria(ByteBuffer datos) {
+        this.canal = null;
+        this.archivo = null;
+        this.tamano = 0;
+        this.ventana = 0;
+        this.buffer = datos.order(ByteOrder.BIG_ENDIAN);
+        MetricasConversion.leidos(buffer.remaining());
+    }
+
+    private EntradaBinaria(FileChannel archivo, long tamano, int ventana) {
+        this.canal = null;
+        this.archivo = archivo;
+        this.tamano = tamano;
+        this.ventana = ventana;
+        this.buffer = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * Entrada sobre el archivo mapeado en memoria por ventanas de VENTANA
+     * bytes, así que sirve también para archivos de más de 2 GiB.
+     */
+    static EntradaBinaria mapear(Path archivo) {
+        return mapear(archivo, VENTANA);
+    }
+
+    /**
+     * Igual que mapear(Path), con ventanas de otro tamaño (las pruebas usan
+     * ventanas chicas para que los valores crucen sus bordes).
+     */
+    static EntradaBinaria mapear(Path archivo, int ventana) {
+        try {
+            FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ);
+            return new EntradaBinaria(canal, canal.size(), ventana);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Lee el siguiente valor. Deja los primitivos en destino y el string en
+     * texto(); devuelve su tipo, o null al final de los datos.
+     */
+    TipoDato leer(ResultadoParseo destino) {
+        if (!asegurar(1)) {
+            return null;
+        }
+        byte etiqueta = buffer.get();
+        TipoDato tipo = FormatoBinario.tipo(etiqueta);
+        if (tipo == null) {
+            throw new UncheckedIOException(new IOException("Etiqueta de tipo desconocida: " + etiqueta));
+        }
+        switch (tipo) {
+            case STRING -> {
+                int longitud = exigir(4).getInt();
+                if (longitud < 0) {
+                    throw new UncheckedIOException(new IOException("Longitud de string negativa: " + longitud));
+                }
+                exigir(longitud);
+                texto = decodificar(longitud);
+            }
+            case INT -> destino.ponerInt(exigir(4).getInt());
+            case FLOAT -> destino.ponerFloat(exigir(4).getFloat());
+            case DOUBLE -> destino.ponerDouble(exigir(8).getDouble());
+            case BOOLEAN -> destino.ponerBoolean(exigir(1).get() != 0);
+        }
+        return tipo;
+    }
+
+    /**
+     * El último string leído con leer().
+     */
+    String texto() {
+        return texto;
+    }
+
+    @Override
+    public String ingresarString(String mensaje) {
+        TipoDato tipo = leer(resultado);
+        return tipo == null ? null : vista(tipo);
+    }
+
+    /**
+     * El valor recién leído con leer(resultado), en texto.
+     */
+    private String vista(TipoDato tipo) {
+        return switch (tipo) {
+            case STRING -> texto;
+            case INT -> String.valueOf(resultado.entero());
+            case FLOAT -> String.valueOf(resultado.flotante());
+            case DOUBLE -> String.valueOf(resultado.doble());
+            case BOOLEAN -> String.valueOf(resultado.booleano());
+        };
+    }
+
+    @Override
+    public String siguienteValor() {
+        return ingresarString(null);
+    }
+
+    @Override
+    public boolean ingresarBoolean(String mensaje) {
+        TipoDato tipo;
+        while ((tipo = leer(resultado)) != null) {
+            if (tipo == TipoDato.BOOLEAN
+                || (tipo == TipoDato.STRING && adaptador.intentarBoolean(texto, 0, texto.length(), resultado))) {
+                return resultado.booleano();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int ingresarInt(String mensaje) {
+        TipoDato tipo;
+        while ((tipo = leer(resultado)) != null) {
+            if (tipo == TipoDato.INT
+                || (tipo == TipoDato.STRING && adaptador.intentarInt(texto, 0, texto.length(), resultado))) {
+                return resultado.entero();
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public float ingresarFloat(String mensaje) {
+        TipoDato tipo;
+        while ((tipo = leer(resultado)) != null) {
+            if (tipo == TipoDato.FLOAT
+                || (tipo == TipoDato.STRING && adaptador.intentarFloat(texto, 0, texto.length(), resultado))) {
+                return resultado.flotante();
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public double ingresarDouble(String mensaje) {
+        TipoDato tipo;
+        while ((tipo = leer(resultado)) != null) {
+            if (tipo == TipoDato.DOUBLE
+                || (tipo == TipoDato.STRING && adaptador.intentarDouble(texto, 0, texto.length(), resultado))) {
+                return resultado.doble();
+            }
+        }
+        return 0;
+    }
+
+    // Métodos en bloque: las corridas de valores del tipo pedido se copian
+    // directo del buffer; los demás se parsean desde su vista en texto, como
+    // hace el modo por lotes con siguienteValor()
+
+    @Override
+    public int ingresarInts(int[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        int leidos = 0;
+        while (leidos < longitud) {
+            int i = desde + leidos;
+            int fin = desde + Math.min(longitud, leidos + buffer.remaining() / 5);
+            int p = buffer.position();
+            while (i < fin && buffer.get(p) == FormatoBinario.INT) {
+                destino[i++] = buffer.getInt(p + 1);
+                p += 5;
+            }
+            buffer.position(p);
+            leidos = i - desde;
+            if (leidos == longitud) {
+                break;
+            }
+            TipoDato tipo = leer(resultado);
+            if (tipo == null) {
+                break;
+            }
+            if (tipo != TipoDato.INT && !parsear(tipo, lector, TipoDato.INT)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = resultado.entero();
+        }
+        return leidos;
+    }
+
+    @Override
+    public int ingresarFloats(float[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        int leidos = 0;
+        while (leidos < longitud) {
+            int i = desde + leidos;
+            int fin = desde + Math.min(longitud, leidos + buffer.remaining() / 5);
+            int p = buffer.position();
+            while (i < fin && buffer.get(p) == FormatoBinario.FLOAT) {
+                destino[i++] = buffer.getFloat(p + 1);
+                p += 5;
+            }
+            buffer.position(p);
+            leidos = i - desde;
+            if (leidos == longitud) {
+                break;
+            }
+            TipoDato tipo = leer(resultado);
+            if (tipo == null) {
+                break;
+            }
+            if (tipo != TipoDato.FLOAT && !parsear(tipo, lector, TipoDato.FLOAT)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = resultado.flotante();
+        }
+        return leidos;
+    }
+
+    @Override
+    public int ingresarDoubles(double[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        int leidos = 0;
+        while (leidos < longitud) {
+            int i = desde + leidos;
+            int fin = desde + Math.min(longitud, leidos + buffer.remaining() / 9);
+            int p = buffer.position();
+            while (i < fin && buffer.get(p) == FormatoBinario.DOUBLE) {
+                destino[i++] = buffer.getDouble(p + 1);
+                p += 9;
+            }
+            buffer.position(p);
+            leidos = i - desde;
+            if (leidos == longitud) {
+                break;
+            }
+            TipoDato tipo = leer(resultado);
+            if (tipo == null) {
+                break;
+            }
+            if (tipo != TipoDato.DOUBLE && !parsear(tipo, lector, TipoDato.DOUBLE)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = resultado.doble();
+        }
+        return leidos;
+    }
+
+    /**
+     * Parsea la vista en texto del valor recién leído como el tipo numérico
+     * pedido y deja el resultado en resultado.
+     */
+    private boolean parsear(TipoDato tipo, AdaptadorEntrada lector, TipoDato pedido) {
+        String valor = vista(tipo);
+        return switch (pedido) {
+            case INT -> lector.intentarInt(valor, 0, valor.length(), resultado);
+            case FLOAT -> lector.intentarFloat(valor, 0, valor.length(), resultado);
+            case DOUBLE -> lector.intentarDouble(valor, 0, valor.length(), resultado);
+            default -> false;
+        };
+    }
+
+    @Override
+    public void cerrar() {
+        try {
+            if (canal != null) {
+                canal.close();
+            }
+            if (archivo != null) {
+                archivo.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String decodificar(int longitud) {
+        String valor;
+        if (buffer.hasArray()) {
+            valor = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), longitud, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[longitud];
+            buffer.get(buffer.position(), bytes);
+            valor = new String(bytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(buffer.position() + longitud);
+        return valor;
+    }
+
+    /**
+     * Como asegurar, pero que falten datos a mitad de un valor es un error.
+     */
+    private ByteBuffer exigir(int bytes) {
+        if (!asegurar(bytes)) {
+            throw new UncheckedIOException(new IOException("Datos binarios truncados"));
+        }
+        return buffer;
+    }
+
+    /**
+     * Garantiza al menos bytes pendientes en el buffer, leyendo del canal si
+     * hace falta. Devuelve false si los datos se acaban antes.
+     */
+    private boolean asegurar(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        if (archivo != null) {
+            return mapearVentana(bytes);
+        }
+        if (canal == null) {
+            return false;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                // El buffer crece a medida que llegan los datos: una longitud
+                // corrupta muy grande no reserva memoria que el flujo no trae
+                if (!buffer.hasRemaining()) {
+                    ByteBuffer mayor = ByteBuffer.allocate((int) Math.min(bytes, 2L * buffer.capacity()));
+                    buffer.flip();
+                    buffer = mayor.put(buffer);
+                }
+                int leidos = canal.read(buffer);
+                if (leidos < 0) {
+                    break;
+                }
+                MetricasConversion.leidos(leidos);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.flip();
+        }
+        return buffer.remaining() >= bytes;
+    }
+
+    /**
+     * Mapea la ventana que empieza en el primer byte pendiente, de ventana
+     * bytes o de los pedidos si son más. Devuelve false si el archivo no
+     * tiene tantos bytes pendientes.
+     */
+    private boolean mapearVentana(int bytes) {
+        long inicio = base + buffer.position();
+        if (tamano - inicio < bytes) {
+            return false;
+        }
+        int pendientes = buffer.remaining();
+        long longitud = Math.min(tamano - inicio, Math.max(ventana, bytes));
+        try {
+            buffer = archivo.map(FileChannel.MapMode.READ_ONLY, inicio, longitud);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        base = inicio;
+        MetricasConversion.leidos(buffer.remaining() - pendientes);
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Entrada por líneas sobre un bloque fijo de bytes (por ejemplo, un trozo
+ * mapeado de un archivo). No muestra mensajes y termina al final del bloque.
+ */
+class EntradaBloque extends EntradaLineas {
+    EntradaBloque(ByteBuffer bloque, Charset charset) {
+        super(bloque, null, charset);
+    }
+
+    @Override
+    protected boolean rellenar() {
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package patronadapter;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Entrada por líneas que lee de un canal (por ejemplo stdin como FileChannel).
+ * Reemplaza a Scanner: sin expresiones regulares ni bloqueos por lectura.
+ */
+class EntradaCanal extends EntradaLineas {
+    static final int TAMANO_BUFFER = 1 << 20;
+
+    private final ReadableByteChannel canal;
+
+    EntradaCanal(ReadableByteChannel canal, PrintStream eco) {
+        this(canal, eco, Charset.defaultCharset(), TAMANO_BUFFER);
+    }
+
+    /**
+     * @param tamano capacidad inicial del buffer; crece si una línea no cabe
+     */
+    EntradaCanal(ReadableByteChannel canal, PrintStream eco, Charset charset, int tamano) {
+        super(ByteBuffer.allocateDirect(tamano).limit(0), eco, charset);
+        this.canal = canal;
+    }
+
+    /**
+     * Entrada de consola sobre el canal de System.in.
+     */
+    static EntradaCanal consola() {
+        return new EntradaCanal(new FileInputStream(FileDescriptor.in).getChannel(), System.out);
+    }
+
+    @Override
+    protected boolean rellenar() throws IOException {
+        asegurarEspacio();
+        buffer.compact();
+        int leidos;
+        try {
+            do {
+                leidos = canal.read(buffer);
+            } while (leidos == 0);
+        } finally {
+            buffer.flip();
+        }
+        return leidos > 0;
+    }
+}
@@ -0,0 +1,63 @@
+package patronadapter;
+
+import javax.swing.JOptionPane;
+
+/**
+ * Implementación de Entrada usando cuadros de diálogo (JOptionPane).
+ */
+class EntradaFrame implements Entrada {
+    private final AdaptadorEntrada adaptador = new AdaptadorEntradaConsola();
+    private final ResultadoParseo resultado = new ResultadoParseo();
+
+    @Override
+    public String ingresarString(String mensaje) {
+        return JOptionPane.showInputDialog(mensaje);
+    }
+    
+    @Override
+    public boolean ingresarBoolean(String mensaje) {
+        while (true) {
+            String input = JOptionPane.showInputDialog(mensaje + " (true/false)");
+            if (input != null && adaptador.intentarBoolean(input, 0, input.length(), resultado)) {
+                return resultado.booleano();
+            }
+            JOptionPane.showMessageDialog(null, "Por favor, ingrese 'true' o 'false'.");
+        }
+    }
+    
+    @Override
+    public int ingresarInt(String mensaje) {
+        while (true) {
+            String input = JOptionPane.showInputDialog(mensaje);
+            if (input == null) return 0; // Cancelado
+            if (adaptador.intentarInt(input, 0, input.length(), resultado)) {
+                return resultado.entero();
+            }
+            JOptionPane.showMessageDialog(null, "Por favor, ingrese un número entero válido.");
+        }
+    }
+    
+    @Override
+    public float ingresarFloat(String mensaje) {
+        while (true) {
+            String input = JOptionPane.showInputDialog(mensaje);
+            if (input == null) return 0; // Cancelado
+            if (adaptador.intentarFloat(input, 0, input.length(), resultado)) {
+                return resultado.flotante();
+            }
+            JOptionPane.showMessageDialog(null, "Por favor, ingrese un número decimal válido.");
+        }
+    }
+    
+    @Override
+    public double ingresarDouble(String mensaje) {
+        while (true) {
+            String input = JOptionPane.showInputDialog(mensaje);
+            if (input == null) return 0; // Cancelado
+            if (adaptador.intentarDouble(input, 0, input.length(), resultado)) {
+                return resultado.doble();
+            }
+            JOptionPane.showMessageDialog(null, "Por favor, ingrese un número decimal válido.");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package patronadapter;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de Entrada que mide cada método. El tiempo de cada llamada
+ * incluye la espera por los datos.
+ */
+class EntradaInstrumentada implements Entrada {
+    private final Entrada entrada;
+    private final Medidor ingresarString;
+    private final Medidor ingresarBoolean;
+    private final Medidor ingresarInt;
+    private final Medidor ingresarFloat;
+    private final Medidor ingresarDouble;
+    private final Medidor siguienteValor;
+    private final Medidor ingresarStrings;
+    private final Medidor ingresarBooleans;
+    private final Medidor ingresarInts;
+    private final Medidor ingresarFloats;
+    private final Medidor ingresarDoubles;
+    private final Medidor cerrar;
+
+    EntradaInstrumentada(Entrada entrada, Metricas metricas) {
+        this.entrada = entrada;
+        this.ingresarString = metricas.medidor("Entrada.ingresarString");
+        this.ingresarBoolean = metricas.medidor("Entrada.ingresarBoolean");
+        this.ingresarInt = metricas.medidor("Entrada.ingresarInt");
+        this.ingresarFloat = metricas.medidor("Entrada.ingresarFloat");
+        this.ingresarDouble = metricas.medidor("Entrada.ingresarDouble");
+        this.siguienteValor = metricas.medidor("Entrada.siguienteValor");
+        this.ingresarStrings = metricas.medidor("Entrada.ingresarStrings");
+        this.ingresarBooleans = metricas.medidor("Entrada.ingresarBooleans");
+        this.ingresarInts = metricas.medidor("Entrada.ingresarInts");
+        this.ingresarFloats = metricas.medidor("Entrada.ingresarFloats");
+        this.ingresarDoubles = metricas.medidor("Entrada.ingresarDoubles");
+        this.cerrar = metricas.medidor("Entrada.cerrar");
+    }
+
+    @Override
+    public String ingresarString(String mensaje) {
+        return medir(ingresarString, () -> entrada.ingresarString(mensaje));
+    }
+
+    @Override
+    public boolean ingresarBoolean(String mensaje) {
+        return medirBoolean(ingresarBoolean, () -> entrada.ingresarBoolean(mensaje));
+    }
+
+    @Override
+    public int ingresarInt(String mensaje) {
+        return medirInt(ingresarInt, () -> entrada.ingresarInt(mensaje));
+    }
+
+    @Override
+    public float ingresarFloat(String mensaje) {
+        return (float) medirDouble(ingresarFloat, () -> entrada.ingresarFloat(mensaje));
+    }
+
+    @Override
+    public double ingresarDouble(String mensaje) {
+        return medirDouble(ingresarDouble, () -> entrada.ingresarDouble(mensaje));
+    }
+
+    @Override
+    public String siguienteValor() {
+        return medir(siguienteValor, () -> entrada.siguienteValor());
+    }
+
+    @Override
+    public int ingresarStrings(String[] destino, int desde, int longitud) {
+        return medirInt(ingresarStrings, () -> entrada.ingresarStrings(destino, desde, longitud));
+    }
+
+    @Override
+    public int ingresarBooleans(boolean[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        return medirInt(ingresarBooleans, () -> entrada.ingresarBooleans(destino, desde, longitud, lector));
+    }
+
+    @Override
+    public int ingresarInts(int[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        return medirInt(ingresarInts, () -> entrada.ingresarInts(destino, desde, longitud, lector));
+    }
+
+    @Override
+    public int ingresarFloats(float[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        return medirInt(ingresarFloats, () -> entrada.ingresarFloats(destino, desde, longitud, lector));
+    }
+
+    @Override
+    public int ingresarDoubles(double[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        return medirInt(ingresarDoubles, () -> entrada.ingresarDoubles(destino, desde, longitud, lector));
+    }
+
+    @Override
+    public void cerrar() {
+        ejecutar(cerrar, () -> entrada.cerrar());
+    }
+
+    // Una llamada medida: tiempo con el Medidor del método y, si lanza una
+    // excepción, un error. Una variante por tipo de resultado, sin encajonar
+    // primitivos; los float pasan por medirDouble, que los conserva exactos.
+
+    private static <T> T medir(Medidor medidor, Supplier<T> llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.get();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static boolean medirBoolean(Medidor medidor, BooleanSupplier llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.getAsBoolean();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static int medirInt(Medidor medidor, IntSupplier llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.getAsInt();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static double medirDouble(Medidor medidor, DoubleSupplier llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            return llamada.getAsDouble();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+
+    private static void ejecutar(Medidor medidor, Runnable llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            llamada.run();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+}
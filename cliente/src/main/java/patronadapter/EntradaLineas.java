@@ -0,0 +1,284 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Entrada por líneas sobre un ByteBuffer grande y reutilizable.
+ * Separa las líneas directamente sobre los bytes (\n, \r\n o \r) y parsea los
+ * números en el mismo buffer, sin crear Strings. Las líneas ASCII (o todo el
+ * texto si el charset es ISO-8859-1) se convierten a String sin decodificar.
+ * Las subclases deciden de dónde salen los bytes implementando rellenar().
+ */
+abstract class EntradaLineas implements Entrada {
+    // Entre position y limit están los bytes aún no consumidos
+    protected ByteBuffer buffer;
+    protected final AdaptadorEntrada adaptador = new AdaptadorEntradaRapido();
+    protected final ResultadoParseo resultado = new ResultadoParseo();
+    private final PrintStream eco;
+    private final Charset charset;
+    private final boolean latin1;
+    private byte[] temporal = new byte[128];
+    private boolean saltarLf;
+
+    // Rango de la última línea leída dentro del buffer
+    protected int inicioLinea;
+    protected int finLinea;
+
+    /**
+     * @param eco flujo donde se muestran los mensajes, o null para no mostrarlos
+     */
+    protected EntradaLineas(ByteBuffer buffer, PrintStream eco, Charset charset) {
+        this.buffer = buffer;
+        this.eco = eco;
+        this.charset = charset;
+        this.latin1 = charset.equals(StandardCharsets.ISO_8859_1);
+        MetricasConversion.leidos(buffer.remaining());
+    }
+
+    /**
+     * Trae más bytes al buffer conservando los no consumidos (de position a limit).
+     * Al volver, position apunta al primer byte pendiente.
+     * Devuelve false si no quedan más datos.
+     */
+    protected abstract boolean rellenar() throws IOException;
+
+    // rellenar() contando en las métricas los bytes nuevos
+    private boolean traer() throws IOException {
+        int pendientes = buffer.remaining();
+        boolean hay = rellenar();
+        MetricasConversion.leidos(buffer.remaining() - pendientes);
+        return hay;
+    }
+
+    /**
+     * Avanza hasta la siguiente línea y deja su rango en inicioLinea/finLinea.
+     * Devuelve false al llegar al final de los datos.
+     */
+    protected final boolean siguienteLinea() {
+        try {
+            if (saltarLf) {
+                saltarLf = false;
+                if (!buffer.hasRemaining() && !traer()) {
+                    return false;
+                }
+                if (buffer.get(buffer.position()) == '\n') {
+                    buffer.position(buffer.position() + 1);
+                }
+            }
+            int revisados = 0;
+            while (true) {
+                int inicio = buffer.position();
+                int limite = buffer.limit();
+                for (int i = inicio + revisados; i < limite; i++) {
+                    byte b = buffer.get(i);
+                    if (b == '\n' || b == '\r') {
+                        inicioLinea = inicio;
+                        finLinea = i;
+                        if (b == '\r') {
+                            if (i + 1 < limite) {
+                                buffer.position(buffer.get(i + 1) == '\n' ? i + 2 : i + 1);
+                            } else {
+                                buffer.position(i + 1);
+                                saltarLf = true;
+                            }
+                        } else {
+                            buffer.position(i + 1);
+                        }
+                        return true;
+                    }
+                }
+                revisados = limite - inicio;
+                if (!traer()) {
+                    if (!buffer.hasRemaining()) {
+                        return false;
+                    }
+                    // Última línea sin salto final
+                    inicioLinea = buffer.position();
+                    finLinea = buffer.limit();
+                    buffer.position(finLinea);
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Crea el String de la última línea leída.
+     */
+    protected final String lineaActual() {
+        int n = finLinea - inicioLinea;
+        if (temporal.length < n) {
+            temporal = new byte[Math.max(n, temporal.length * 2)];
+        }
+        buffer.get(inicioLinea, temporal, 0, n);
+        if (!latin1) {
+            for (int i = 0; i < n; i++) {
+                if (temporal[i] < 0) {
+                    return new String(temporal, 0, n, charset);
+                }
+            }
+        }
+        return new String(temporal, 0, n, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Garantiza espacio libre al final del buffer; si está lleno de datos
+     * pendientes (una línea más larga que el buffer) lo reemplaza por uno mayor.
+     */
+    protected final void asegurarEspacio() {
+        if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+            ByteBuffer mayor = buffer.isDirect()
+                ? ByteBuffer.allocateDirect(buffer.capacity() * 2)
+                : ByteBuffer.allocate(buffer.capacity() * 2);
+            mayor.put(buffer);
+            mayor.flip();
+            buffer = mayor;
+        }
+    }
+
+    private void indicar(String mensaje) {
+        if (eco != null) {
+            eco.print(mensaje);
+            eco.flush();
+        }
+    }
+
+    private void avisar(String mensaje) {
+        if (eco != null) {
+            eco.println(mensaje);
+        }
+    }
+
+    @Override
+    public String ingresarString(String mensaje) {
+        indicar(mensaje + ": ");
+        return siguienteLinea() ? lineaActual() : null;
+    }
+
+    @Override
+    public String siguienteValor() {
+        return siguienteLinea() ? lineaActual() : null;
+    }
+
+    // Métodos en bloque: recorren las líneas y las parsean en el lugar, sin mensajes
+
+    @Override
+    public int ingresarStrings(String[] destino, int desde, int longitud) {
+        int leidos = 0;
+        while (leidos < longitud && siguienteLinea()) {
+            destino[desde + leidos++] = lineaActual();
+        }
+        return leidos;
+    }
+
+    @Override
+    public int ingresarBooleans(boolean[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        int leidos = 0;
+        while (leidos < longitud && siguienteLinea()) {
+            if (!lector.intentarBoolean(buffer, inicioLinea, finLinea - inicioLinea, resultado)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = resultado.booleano();
+        }
+        return leidos;
+    }
+
+    @Override
+    public int ingresarInts(int[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        int leidos = 0;
+        while (leidos < longitud && siguienteLinea()) {
+            if (!lector.intentarInt(buffer, inicioLinea, finLinea - inicioLinea, resultado)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = resultado.entero();
+        }
+        return leidos;
+    }
+
+    @Override
+    public int ingresarFloats(float[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        int leidos = 0;
+        while (leidos < longitud && siguienteLinea()) {
+            if (!lector.intentarFloat(buffer, inicioLinea, finLinea - inicioLinea, resultado)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = resultado.flotante();
+        }
+        return leidos;
+    }
+
+    @Override
+    public int ingresarDoubles(double[] destino, int desde, int longitud, AdaptadorEntrada lector) {
+        int leidos = 0;
+        while (leidos < longitud && siguienteLinea()) {
+            if (!lector.intentarDouble(buffer, inicioLinea, finLinea - inicioLinea, resultado)) {
+                return ~leidos;
+            }
+            destino[desde + leidos++] = resultado.doble();
+        }
+        return leidos;
+    }
+
+    @Override
+    public boolean ingresarBoolean(String mensaje) {
+        while (true) {
+            indicar(mensaje + " (true/false): ");
+            if (!siguienteLinea()) {
+                return false;
+            }
+            if (adaptador.intentarBoolean(buffer, inicioLinea, finLinea - inicioLinea, resultado)) {
+                return resultado.booleano();
+            }
+            avisar("Por favor, ingrese 'true' o 'false'.");
+        }
+    }
+
+    @Override
+    public int ingresarInt(String mensaje) {
+        while (true) {
+            indicar(mensaje + ": ");
+            if (!siguienteLinea()) {
+                return 0;
+            }
+            if (adaptador.intentarInt(buffer, inicioLinea, finLinea - inicioLinea, resultado)) {
+                return resultado.entero();
+            }
+            avisar("Por favor, ingrese un número entero válido.");
+        }
+    }
+
+    @Override
+    public float ingresarFloat(String mensaje) {
+        while (true) {
+            indicar(mensaje + ": ");
+            if (!siguienteLinea()) {
+                return 0;
+            }
+            if (adaptador.intentarFloat(buffer, inicioLinea, finLinea - inicioLinea, resultado)) {
+                return resultado.flotante();
+            }
+            avisar("Por favor, ingrese un número decimal válido.");
+        }
+    }
+
+    @Override
+    public double ingresarDouble(String mensaje) {
+        while (true) {
+            indicar(mensaje + ": ");
+            if (!siguienteLinea()) {
+                return 0;
+            }
+            if (adaptador.intentarDouble(buffer, inicioLinea, finLinea - inicioLinea, resultado)) {
+                return resultado.doble();
+            }
+            avisar("Por favor, ingrese un número decimal válido.");
+        }
+    }
+}
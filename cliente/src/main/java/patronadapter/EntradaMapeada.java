@@ -0,0 +1,63 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Entrada que mapea el archivo en memoria por ventanas y recorre las líneas
+ * sobre el propio mapeo, sin copiarlas. Los tipos y los valores se leen del
+ * archivo en el mismo orden en que los pediría la consola; no muestra mensajes.
+ */
+class EntradaMapeada extends EntradaLineas {
+    static final int VENTANA = 64 << 20;
+
+    private final FileChannel canal;
+    private final long tamano;
+    private long base;
+    private int ventana = VENTANA;
+
+    EntradaMapeada(Path archivo) {
+        super(ByteBuffer.allocate(0), null, Charset.defaultCharset());
+        try {
+            this.canal = FileChannel.open(archivo, StandardOpenOption.READ);
+            this.tamano = canal.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected boolean rellenar() throws IOException {
+        long inicio = base + buffer.position();
+        long finMapeado = base + buffer.limit();
+        if (finMapeado >= tamano) {
+            return false;
+        }
+        // Si una línea no cabe en la ventana, la ventana crece; un mapeo no
+        // puede superar 2 GiB, así que una línea más larga es un error
+        if (finMapeado - inicio >= ventana) {
+            if (ventana == Integer.MAX_VALUE) {
+                throw new IOException("Línea demasiado larga para mapear el archivo (más de 2 GiB)");
+            }
+            ventana = (int) Math.min(Integer.MAX_VALUE, (long) ventana * 2);
+        }
+        long longitud = Math.min(tamano - inicio, ventana);
+        buffer = canal.map(FileChannel.MapMode.READ_ONLY, inicio, longitud);
+        base = inicio;
+        return true;
+    }
+
+    @Override
+    public void cerrar() {
+        try {
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package patronadapter;
+
+/**
+ * Entrada en memoria: entrega un arreglo de líneas y luego informa fin de
+ * datos. reiniciar() vuelve al principio.
+ */
+class EntradaMemoria implements Entrada {
+    private final String[] lineas;
+    private final AdaptadorEntrada adaptador = new AdaptadorEntradaRapido();
+    private final ResultadoParseo resultado = new ResultadoParseo();
+    private int siguiente;
+
+    EntradaMemoria(String... lineas) {
+        this.lineas = lineas;
+    }
+
+    void reiniciar() {
+        siguiente = 0;
+    }
+
+    @Override
+    public String ingresarString(String mensaje) {
+        return siguienteValor();
+    }
+
+    @Override
+    public String siguienteValor() {
+        return siguiente < lineas.length ? lineas[siguiente++] : null;
+    }
+
+    @Override
+    public boolean ingresarBoolean(String mensaje) {
+        String linea = siguienteValor();
+        return linea != null && adaptador.intentarBoolean(linea, 0, linea.length(), resultado) && resultado.booleano();
+    }
+
+    @Override
+    public int ingresarInt(String mensaje) {
+        String linea = siguienteValor();
+        return linea != null && adaptador.intentarInt(linea, 0, linea.length(), resultado) ? resultado.entero() : 0;
+    }
+
+    @Override
+    public float ingresarFloat(String mensaje) {
+        String linea = siguienteValor();
+        return linea != null && adaptador.intentarFloat(linea, 0, linea.length(), resultado) ? resultado.flotante() : 0;
+    }
+
+    @Override
+    public double ingresarDouble(String mensaje) {
+        String linea = siguienteValor();
+        return linea != null && adaptador.intentarDouble(linea, 0, linea.length(), resultado) ? resultado.doble() : 0;
+    }
+}
@@ -0,0 +1,377 @@
+package patronadapter;
+
+import java.math.BigInteger;
+
+/**
+ * Formateo de float y double con el algoritmo Schubfach (Giulietti): el
+ * decimal más corto que vuelve al mismo valor, con el mismo texto que
+ * Double.toString y Float.toString. Escribe en un byte[] (ASCII) o en un
+ * char[] del llamador y no crea objetos; los métodos devuelven la posición
+ * siguiente al último carácter escrito.
+ */
+final class EscritorDecimal {
+    // Largo máximo del texto: "-2.2250738585072014E-308" y "-1.17549435E-38"
+    static final int MAXIMO_DOUBLE = 24;
+    static final int MAXIMO_FLOAT = 15;
+
+    // g = floor(10^-k 2^-r) + 1 con 2^125 <= g < 2^126, partido en dos mitades
+    // de 63 bits (alta y baja alternadas) para k entre K_MIN y K_MAX
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+    private static final long[] POTENCIAS_DIEZ = new long[18];
+
+    private static final long MASCARA_63 = (1L << 63) - 1;
+    private static final long MASCARA_32 = (1L << 32) - 1;
+    private static final int MASCARA_28 = (1 << 28) - 1;
+
+    static {
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            BigInteger beta;
+            if (k <= 0) {
+                BigInteger potencia = BigInteger.TEN.pow(-k);
+                int r = potencia.bitLength() - 126;
+                beta = r >= 0 ? potencia.shiftRight(r) : potencia.shiftLeft(-r);
+            } else {
+                BigInteger potencia = BigInteger.TEN.pow(k);
+                beta = BigInteger.ONE.shiftLeft(125 + potencia.bitLength()).divide(potencia);
+            }
+            BigInteger g = beta.add(BigInteger.ONE);
+            int i = 2 * (k - K_MIN);
+            G[i] = g.shiftRight(63).longValue();
+            G[i + 1] = g.longValue() & MASCARA_63;
+        }
+        long p = 1;
+        for (int i = 0; i < POTENCIAS_DIEZ.length; i++) {
+            POTENCIAS_DIEZ[i] = p;
+            p *= 10;
+        }
+    }
+
+    private EscritorDecimal() {
+    }
+
+    static int escribir(double valor, byte[] destino, int desde) {
+        return escribirDouble(valor, destino, null, desde);
+    }
+
+    static int escribir(double valor, char[] destino, int desde) {
+        return escribirDouble(valor, null, destino, desde);
+    }
+
+    static int escribir(float valor, byte[] destino, int desde) {
+        return escribirFloat(valor, destino, null, desde);
+    }
+
+    static int escribir(float valor, char[] destino, int desde) {
+        return escribirFloat(valor, null, destino, desde);
+    }
+
+    // ---- double ----
+
+    private static int escribirDouble(double valor, byte[] b, char[] c, int i) {
+        long bits = Double.doubleToRawLongBits(valor);
+        long t = bits & ((1L << 52) - 1);
+        int bq = (int) (bits >>> 52) & 0x7FF;
+        if (bq == 0x7FF) {
+            return palabra(b, c, i, t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+        }
+        if (bits < 0) {
+            poner(b, c, i++, '-');
+        }
+        if (bq != 0) {
+            int mq = 1075 - bq;
+            long mantisa = 1L << 52 | t;
+            // Enteros exactos: no hace falta buscar el decimal más corto
+            if (0 < mq && mq < 53) {
+                long f = mantisa >> mq;
+                if (f << mq == mantisa) {
+                    return texto(b, c, i, f, 0, 17);
+                }
+            }
+            return decimalDouble(b, c, i, -mq, mantisa, 0);
+        }
+        if (t != 0) {
+            // Subnormal
+            return t < 3 ? decimalDouble(b, c, i, -1074, 10 * t, -1) : decimalDouble(b, c, i, -1074, t, 0);
+        }
+        return palabra(b, c, i, "0.0");
+    }
+
+    private static int decimalDouble(byte[] b, char[] c, int i, int q, long mantisa, int dk) {
+        int impar = (int) mantisa & 1;
+        long cb = mantisa << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (mantisa != 1L << 52 || q == -1074) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10TresCuartosPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+
+        long vb = redondearImpar(g1, g0, cb << h);
+        long vbl = redondearImpar(g1, g0, cbl << h);
+        long vbr = redondearImpar(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // Primero con un dígito menos
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + impar <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + impar <= vbr;
+            if (upin != wpin) {
+                return texto(b, c, i, upin ? sp10 : tp10, k, 17);
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + impar <= s << 2;
+        boolean win = (t << 2) + impar <= vbr;
+        if (uin != win) {
+            return texto(b, c, i, uin ? s : t, k + dk, 17);
+        }
+        long cmp = vb - ((s + t) << 1);
+        return texto(b, c, i, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, 17);
+    }
+
+    private static long redondearImpar(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (((z & MASCARA_63) + MASCARA_63) >>> 63);
+    }
+
+    // ---- float ----
+
+    private static int escribirFloat(float valor, byte[] b, char[] c, int i) {
+        int bits = Float.floatToRawIntBits(valor);
+        int t = bits & ((1 << 23) - 1);
+        int bq = (bits >>> 23) & 0xFF;
+        if (bq == 0xFF) {
+            return palabra(b, c, i, t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+        }
+        if (bits < 0) {
+            poner(b, c, i++, '-');
+        }
+        if (bq != 0) {
+            int mq = 150 - bq;
+            int mantisa = 1 << 23 | t;
+            if (0 < mq && mq < 24) {
+                int f = mantisa >> mq;
+                if (f << mq == mantisa) {
+                    return texto(b, c, i, f, 0, 9);
+                }
+            }
+            return decimalFloat(b, c, i, -mq, mantisa, 0);
+        }
+        if (t != 0) {
+            return t < 8 ? decimalFloat(b, c, i, -149, 10 * t, -1) : decimalFloat(b, c, i, -149, t, 0);
+        }
+        return palabra(b, c, i, "0.0");
+    }
+
+    private static int decimalFloat(byte[] b, char[] c, int i, int q, int mantisa, int dk) {
+        int impar = mantisa & 1;
+        long cb = (long) mantisa << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (mantisa != 1 << 23 || q == -149) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10TresCuartosPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 33;
+        long g = G[2 * (k - K_MIN)] + 1;
+
+        int vb = redondearImpar(g, cb << h);
+        int vbl = redondearImpar(g, cbl << h);
+        int vbr = redondearImpar(g, cbr << h);
+
+        int s = vb >> 2;
+        if (s >= 100) {
+            int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + impar <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + impar <= vbr;
+            if (upin != wpin) {
+                return texto(b, c, i, upin ? sp10 : tp10, k, 9);
+            }
+        }
+        int t = s + 1;
+        boolean uin = vbl + impar <= s << 2;
+        boolean win = (t << 2) + impar <= vbr;
+        if (uin != win) {
+            return texto(b, c, i, uin ? s : t, k + dk, 9);
+        }
+        int cmp = vb - ((s + t) << 1);
+        return texto(b, c, i, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, 9);
+    }
+
+    private static int redondearImpar(long g, long cp) {
+        long x1 = Math.multiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+        return (int) (vbp | (((x1 & MASCARA_32) + MASCARA_32) >>> 32));
+    }
+
+    // ---- texto ----
+
+    /**
+     * Escribe f 10^e, con f de a lo sumo 'precision' dígitos (17 o 9), en el
+     * formato de Double.toString: plano si 10^-3 <= valor < 10^7 y si no
+     * notación científica, siempre con al menos un dígito tras el punto.
+     */
+    private static int texto(byte[] b, char[] c, int i, long f, int e, int precision) {
+        int largo = flog10pow2(64 - Long.numberOfLeadingZeros(f));
+        if (f >= POTENCIAS_DIEZ[largo]) {
+            largo++;
+        }
+        f *= POTENCIAS_DIEZ[precision - largo];
+        e += largo;
+
+        // Primer dígito (h), los 8 siguientes (m) y los 8 últimos (l, sólo double)
+        int h;
+        int m;
+        int l;
+        if (precision == 17) {
+            long hm = Math.multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+            l = (int) (f - 100_000_000L * hm);
+            h = (int) (hm * 1_441_151_881L >>> 57);
+            m = (int) (hm - 100_000_000 * h);
+        } else {
+            h = (int) (f * 1_441_151_881L >>> 57);
+            m = (int) (f - 100_000_000L * h);
+            l = 0;
+        }
+
+        if (0 < e && e <= 7) {
+            // Plano, con e dígitos antes del punto
+            poner(b, c, i++, '0' + h);
+            int y = y(m);
+            int k = 1;
+            for (; k < e; k++) {
+                int d = 10 * y;
+                poner(b, c, i++, '0' + (d >>> 28));
+                y = d & MASCARA_28;
+            }
+            poner(b, c, i++, '.');
+            for (; k <= 8; k++) {
+                int d = 10 * y;
+                poner(b, c, i++, '0' + (d >>> 28));
+                y = d & MASCARA_28;
+            }
+            return digitosBajos(b, c, i, l);
+        }
+        if (-3 < e && e <= 0) {
+            // Plano, con ceros a la izquierda
+            poner(b, c, i++, '0');
+            poner(b, c, i++, '.');
+            for (; e < 0; e++) {
+                poner(b, c, i++, '0');
+            }
+            poner(b, c, i++, '0' + h);
+            i = ochoDigitos(b, c, i, m);
+            return digitosBajos(b, c, i, l);
+        }
+        poner(b, c, i++, '0' + h);
+        poner(b, c, i++, '.');
+        i = ochoDigitos(b, c, i, m);
+        i = digitosBajos(b, c, i, l);
+        return exponente(b, c, i, e - 1);
+    }
+
+    private static int digitosBajos(byte[] b, char[] c, int i, int l) {
+        if (l != 0) {
+            i = ochoDigitos(b, c, i, l);
+        }
+        // Quita los ceros finales, salvo el que sigue al punto
+        while (leer(b, c, i - 1) == '0') {
+            i--;
+        }
+        if (leer(b, c, i - 1) == '.') {
+            i++;
+        }
+        return i;
+    }
+
+    // Dígitos de izquierda a derecha sin divisiones: y es m / 10^8 en punto fijo de 28 bits
+    private static int ochoDigitos(byte[] b, char[] c, int i, int m) {
+        int y = y(m);
+        for (int k = 0; k < 8; k++) {
+            int d = 10 * y;
+            poner(b, c, i++, '0' + (d >>> 28));
+            y = d & MASCARA_28;
+        }
+        return i;
+    }
+
+    private static int y(int a) {
+        return (int) (Math.multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+    }
+
+    private static int exponente(byte[] b, char[] c, int i, int e) {
+        poner(b, c, i++, 'E');
+        if (e < 0) {
+            poner(b, c, i++, '-');
+            e = -e;
+        }
+        if (e >= 100) {
+            int d = e * 1_311 >>> 17;
+            poner(b, c, i++, '0' + d);
+            e -= 100 * d;
+        } else if (e < 10) {
+            poner(b, c, i++, '0' + e);
+            return i;
+        }
+        int d = e * 103 >>> 10;
+        poner(b, c, i++, '0' + d);
+        poner(b, c, i++, '0' + e - 10 * d);
+        return i;
+    }
+
+    private static int palabra(byte[] b, char[] c, int i, String palabra) {
+        for (int k = 0; k < palabra.length(); k++) {
+            poner(b, c, i++, palabra.charAt(k));
+        }
+        return i;
+    }
+
+    private static void poner(byte[] b, char[] c, int i, int caracter) {
+        if (b != null) {
+            b[i] = (byte) caracter;
+        } else {
+            c[i] = (char) caracter;
+        }
+    }
+
+    private static int leer(byte[] b, char[] c, int i) {
+        return b != null ? b[i] : c[i];
+    }
+
+    // ---- logaritmos enteros ----
+
+    // floor(e log10(2))
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    // floor(e log10(2) + log10(3/4))
+    private static int flog10TresCuartosPow2(int e) {
+        return (int) (e * 661_971_961_083L - 274_743_187_321L >> 41);
+    }
+
+    // floor(e log2(10))
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
@@ -0,0 +1,86 @@
+package patronadapter;
+
+/**
+ * Formateo de int con una tabla de pares de dígitos: dos dígitos por cada
+ * división entre 100, escritos de derecha a izquierda en el byte[] (ASCII) o
+ * char[] del llamador. El texto es el de Integer.toString y no se crean objetos.
+ */
+final class EscritorEntero {
+    // Largo máximo del texto: "-2147483648"
+    static final int MAXIMO_INT = 11;
+
+    // "00", "01", ..., "99": las decenas en posiciones pares y las unidades en impares
+    private static final byte[] PARES = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            PARES[2 * i] = (byte) ('0' + i / 10);
+            PARES[2 * i + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private EscritorEntero() {
+    }
+
+    /**
+     * Cantidad de caracteres del texto de valor, con el signo.
+     */
+    static int longitud(int valor) {
+        // En negativo para cubrir también Integer.MIN_VALUE
+        int negativo = valor < 0 ? valor : -valor;
+        int limite = -10;
+        for (int digitos = 1; digitos < 10; digitos++) {
+            if (negativo > limite) {
+                return digitos + (valor < 0 ? 1 : 0);
+            }
+            limite *= 10;
+        }
+        return 10 + (valor < 0 ? 1 : 0);
+    }
+
+    static int escribir(int valor, byte[] destino, int desde) {
+        int fin = desde + longitud(valor);
+        int i = fin;
+        int v = valor < 0 ? valor : -valor;
+        while (v <= -100) {
+            int q = v / 100;
+            int par = 2 * (q * 100 - v);
+            destino[--i] = PARES[par + 1];
+            destino[--i] = PARES[par];
+            v = q;
+        }
+        if (v <= -10) {
+            destino[--i] = PARES[-2 * v + 1];
+            destino[--i] = PARES[-2 * v];
+        } else {
+            destino[--i] = (byte) ('0' - v);
+        }
+        if (valor < 0) {
+            destino[--i] = '-';
+        }
+        return fin;
+    }
+
+    static int escribir(int valor, char[] destino, int desde) {
+        int fin = desde + longitud(valor);
+        int i = fin;
+        int v = valor < 0 ? valor : -valor;
+        while (v <= -100) {
+            int q = v / 100;
+            int par = 2 * (q * 100 - v);
+            destino[--i] = (char) PARES[par + 1];
+            destino[--i] = (char) PARES[par];
+            v = q;
+        }
+        if (v <= -10) {
+            destino[--i] = (char) PARES[-2 * v + 1];
+            destino[--i] = (char) PARES[-2 * v];
+        } else {
+            destino[--i] = (char) ('0' - v);
+        }
+        if (valor < 0) {
+            destino[--i] = '-';
+        }
+        return fin;
+    }
+}
@@ -0,0 +1,34 @@
+package patronadapter;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cómo espera un extremo del anillo cuando no hay datos (o no hay lugar).
+ * GIRAR da la menor latencia pero ocupa un núcleo entero; ESTACIONAR gira un
+ * poco, luego cede el procesador y por último duerme unos microsegundos.
+ */
+enum EsperaAnillo {
+    GIRAR {
+        @Override
+        void esperar(int intentos) {
+            Thread.onSpinWait();
+        }
+    },
+    ESTACIONAR {
+        @Override
+        void esperar(int intentos) {
+            if (intentos < 1000) {
+                Thread.onSpinWait();
+            } else if (intentos < 1100) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(20_000);
+            }
+        }
+    };
+
+    /**
+     * @param intentos veces que ya se esperó sin éxito en esta misma espera
+     */
+    abstract void esperar(int intentos);
+}
@@ -0,0 +1,21 @@
+package patronadapter;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("patronadapter.Escritura")
+@Label("Escritura de la Salida")
+@Category({"PatronAdapter", "Conversión"})
+@Enabled(false)
+class EventoEscritura extends Event {
+    @Label("Escrita")
+    boolean escrita;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,34 @@
+package patronadapter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Eventos de Flight Recorder para las etapas de una conversión en Cliente,
+ * para cruzar la latencia con GC y safepoints en la misma grabación. Todos
+ * están apagados por defecto; se encienden con una configuración de la
+ * grabación, por ejemplo la que genera
+ * jfr configure +patronadapter.Lote#enabled=true --output lote.jfc. Apagados,
+ * el JIT elimina el objeto del evento y sólo queda la consulta de si está activo.
+ *
+ * Etapas: Lectura (Entrada.siguienteValor), Parseo (AdaptadorEntrada),
+ * Validacion (si el par de tipos se permite), Formato (el Conversor, que
+ * formatea con el AdaptadorSalida y entrega el texto a la Salida) y
+ * Escritura (Salida.vaciar, donde las Salidas con buffer escriben de verdad).
+ * Para flujos de millones de valores conviene usar Lote, que resume bloques
+ * de valores en un solo evento.
+ */
+@Name("patronadapter.Lectura")
+@Label("Lectura de la Entrada")
+@Category({"PatronAdapter", "Conversión"})
+@Enabled(false)
+class EventoLectura extends Event {
+    @Label("Tipo de entrada")
+    String tipoEntrada;
+
+    @Label("Entrada agotada")
+    boolean agotada;
+}
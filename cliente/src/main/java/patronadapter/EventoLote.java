@@ -0,0 +1,33 @@
+package patronadapter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Resumen de un bloque de hasta VALORES valores del modo por lotes.
+ */
+@Name("patronadapter.Lote")
+@Label("Bloque de conversiones por lotes")
+@Category({"PatronAdapter", "Conversión"})
+@Enabled(false)
+class EventoLote extends Event {
+    static final int VALORES = 4096;
+
+    @Label("Tipo de entrada")
+    String tipoEntrada;
+
+    @Label("Tipo de salida")
+    String tipoSalida;
+
+    @Label("Valores leídos")
+    int valores;
+
+    @Label("Valores inválidos")
+    int invalidos;
+
+    @Label("Conversiones fallidas")
+    int errores;
+}
@@ -0,0 +1,19 @@
+package patronadapter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("patronadapter.Parseo")
+@Label("Parseo del valor")
+@Category({"PatronAdapter", "Conversión"})
+@Enabled(false)
+class EventoParseo extends Event {
+    @Label("Tipo de entrada")
+    String tipoEntrada;
+
+    @Label("Valor válido")
+    boolean valido;
+}
@@ -0,0 +1,22 @@
+package patronadapter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("patronadapter.Validacion")
+@Label("Validación de la conversión")
+@Category({"PatronAdapter", "Conversión"})
+@Enabled(false)
+class EventoValidacion extends Event {
+    @Label("Tipo de entrada")
+    String tipoEntrada;
+
+    @Label("Tipo de salida")
+    String tipoSalida;
+
+    @Label("Conversión permitida")
+    boolean permitida;
+}
@@ -0,0 +1,209 @@
+package patronadapter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportador de las métricas en el formato de texto de Prometheus: por par
+ * de tipos, conversiones, errores e histograma de latencia; valores inválidos
+ * por tipo de entrada; bytes leídos y escritos por las Entradas y Salidas con
+ * buffer; y, si se pidieron con --metricas, un histograma por método de los
+ * decoradores. Los contadores ya existen en MetricasConversion y Metricas
+ * (sin reservar memoria al registrar): el texto se arma sólo al leerlo.
+ *
+ * Se sirve por HTTP en loopback (GET /metrics) o se vuelca periódicamente a
+ * un archivo, por ejemplo para el colector de archivos de texto de
+ * node_exporter; el archivo se reemplaza de una vez para no leerlo a medias.
+ */
+final class ExportadorPrometheus {
+    static final int PERIODO_VOLCADO_SEGUNDOS = 15;
+
+    // Cotas de las cubetas exportadas, en ns; las del Histograma que caen
+    // entre dos cotas se cuentan en la mayor (error menor al 12,5 %)
+    private static final long[] COTAS_NANOS = {
+        250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000,
+        1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+    private static final String[] COTAS = new String[COTAS_NANOS.length];
+
+    static {
+        for (int i = 0; i < COTAS.length; i++) {
+            COTAS[i] = BigDecimal.valueOf(COTAS_NANOS[i], 9).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private final MetricasConversion conversiones;
+    private final Metricas metricas;
+    private Path archivo;
+
+    ExportadorPrometheus(MetricasConversion conversiones, Metricas metricas) {
+        this.conversiones = conversiones;
+        this.metricas = metricas;
+    }
+
+    /**
+     * Sirve las métricas en http://127.0.0.1:puerto/metrics. El servidor no
+     * impide que el proceso termine cuando acaba el modo en curso.
+     */
+    void servir(int puerto) throws IOException, InterruptedException {
+        HttpServer servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto), 0);
+        servidor.createContext("/metrics", this::atender);
+        // El hilo que atiende hereda de quien llama a start() si es daemon
+        Thread arranque = new Thread(servidor::start, "arranque-prometheus");
+        arranque.setDaemon(true);
+        arranque.start();
+        arranque.join();
+        System.err.println("Métricas de Prometheus en http:/" + servidor.getAddress() + "/metrics");
+    }
+
+    /**
+     * Escribe las métricas en el archivo cada PERIODO_VOLCADO_SEGUNDOS, y una
+     * última vez al terminar el proceso.
+     */
+    void volcar(Path archivo) {
+        this.archivo = archivo;
+        ScheduledExecutorService volcador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "volcado-prometheus");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        volcador.scheduleAtFixedRate(this::volcarAhora, 0, PERIODO_VOLCADO_SEGUNDOS, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            volcador.shutdownNow();
+            volcarAhora();
+        }));
+    }
+
+    private synchronized void volcarAhora() {
+        try {
+            Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+            Files.writeString(temporal, texto(), StandardCharsets.UTF_8);
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("No se pudieron volcar las métricas en " + archivo + ": " + e.getMessage());
+        }
+    }
+
+    private void atender(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!intercambio.getRequestMethod().equals("GET")) {
+                intercambio.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] cuerpo = texto().getBytes(StandardCharsets.UTF_8);
+            intercambio.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            intercambio.sendResponseHeaders(200, cuerpo.length);
+            intercambio.getResponseBody().write(cuerpo);
+        }
+    }
+
+    /**
+     * Arma el texto con una instantánea de cada contador.
+     */
+    String texto() {
+        TipoDato[] tipos = TipoDato.values();
+        Histograma.Instantanea[] pares = new Histograma.Instantanea[tipos.length * tipos.length];
+        for (TipoDato de : tipos) {
+            for (TipoDato a : tipos) {
+                Histograma par = conversiones.par(de, a);
+                if (par != null) {
+                    pares[de.ordinal() * tipos.length + a.ordinal()] = par.instantanea();
+                }
+            }
+        }
+
+        StringBuilder t = new StringBuilder(16 << 10);
+        encabezado(t, "patronadapter_conversiones_total", "counter", "Valores convertidos por par de tipos.");
+        for (TipoDato de : tipos) {
+            for (TipoDato a : tipos) {
+                Histograma.Instantanea i = pares[de.ordinal() * tipos.length + a.ordinal()];
+                if (i != null) {
+                    t.append("patronadapter_conversiones_total{").append(etiquetas(de, a)).append("} ")
+                        .append(i.llamadas()).append('\n');
+                }
+            }
+        }
+        encabezado(t, "patronadapter_conversion_errores_total", "counter",
+            "Valores que no se pudieron convertir al tipo de salida.");
+        for (TipoDato de : tipos) {
+            for (TipoDato a : tipos) {
+                Histograma.Instantanea i = pares[de.ordinal() * tipos.length + a.ordinal()];
+                if (i != null) {
+                    t.append("patronadapter_conversion_errores_total{").append(etiquetas(de, a)).append("} ")
+                        .append(i.errores()).append('\n');
+                }
+            }
+        }
+        encabezado(t, "patronadapter_valores_invalidos_total", "counter",
+            "Valores que no eran del tipo de entrada (NumberFormatException).");
+        for (TipoDato de : tipos) {
+            t.append("patronadapter_valores_invalidos_total{tipo=\"").append(de.nombre()).append("\"} ")
+                .append(conversiones.invalidos(de).valor()).append('\n');
+        }
+        encabezado(t, "patronadapter_entrada_bytes_total", "counter", "Bytes leídos por las Entradas con buffer.");
+        t.append("patronadapter_entrada_bytes_total ").append(conversiones.bytesEntrada.valor()).append('\n');
+        encabezado(t, "patronadapter_salida_bytes_total", "counter", "Bytes escritos por las Salidas con buffer.");
+        t.append("patronadapter_salida_bytes_total ").append(conversiones.bytesSalida.valor()).append('\n');
+        encabezado(t, "patronadapter_conversion_segundos", "histogram",
+            "Tiempo por valor, del parseo a la salida, por par de tipos.");
+        for (TipoDato de : tipos) {
+            for (TipoDato a : tipos) {
+                Histograma.Instantanea i = pares[de.ordinal() * tipos.length + a.ordinal()];
+                if (i != null) {
+                    histograma(t, "patronadapter_conversion_segundos", etiquetas(de, a), i);
+                }
+            }
+        }
+
+        Map<String, Histograma.Instantanea> metodos = metricas.instantaneas();
+        metodos.values().removeIf(i -> i.llamadas() == 0);
+        if (!metodos.isEmpty()) {
+            encabezado(t, "patronadapter_metodo_errores_total", "counter",
+                "Llamadas con error de cada método de Entrada, Salida y adaptadores.");
+            metodos.forEach((nombre, i) -> t.append("patronadapter_metodo_errores_total{metodo=\"").append(nombre)
+                .append("\"} ").append(i.errores()).append('\n'));
+            encabezado(t, "patronadapter_metodo_segundos", "histogram",
+                "Duración de cada método de Entrada, Salida y adaptadores.");
+            metodos.forEach((nombre, i) -> histograma(t, "patronadapter_metodo_segundos", "metodo=\"" + nombre + "\"", i));
+        }
+        return t.toString();
+    }
+
+    private static String etiquetas(TipoDato de, TipoDato a) {
+        return "de=\"" + de.nombre() + "\",a=\"" + a.nombre() + "\"";
+    }
+
+    private static void encabezado(StringBuilder t, String nombre, String tipo, String ayuda) {
+        t.append("# HELP ").append(nombre).append(' ').append(ayuda).append('\n');
+        t.append("# TYPE ").append(nombre).append(' ').append(tipo).append('\n');
+    }
+
+    private static void histograma(StringBuilder t, String nombre, String etiquetas, Histograma.Instantanea i) {
+        long[] cubetas = i.cubetas();
+        long acumulado = 0;
+        int c = 0;
+        for (int l = 0; l < COTAS_NANOS.length; l++) {
+            while (c < cubetas.length && Histograma.limite(c) <= COTAS_NANOS[l]) {
+                acumulado += cubetas[c++];
+            }
+            t.append(nombre).append("_bucket{").append(etiquetas).append(",le=\"").append(COTAS[l]).append("\"} ")
+                .append(acumulado).append('\n');
+        }
+        long llamadas = i.llamadas();
+        t.append(nombre).append("_bucket{").append(etiquetas).append(",le=\"+Inf\"} ").append(llamadas).append('\n');
+        t.append(nombre).append("_sum{").append(etiquetas).append("} ").append(i.sumaNanos() / 1e9).append('\n');
+        t.append(nombre).append("_count{").append(etiquetas).append("} ").append(llamadas).append('\n');
+    }
+}
@@ -0,0 +1,32 @@
+package patronadapter;
+
+/**
+ * Formato binario etiquetado: un byte con el tipo seguido del valor en big
+ * endian: int y float en 4 bytes, double en 8, boolean en 1 (0 o 1), y string
+ * como longitud de 4 bytes más sus bytes UTF-8. Las etiquetas son fijas y no
+ * dependen del orden de TipoDato.
+ */
+final class FormatoBinario {
+    static final byte STRING = 0;
+    static final byte INT = 1;
+    static final byte FLOAT = 2;
+    static final byte DOUBLE = 3;
+    static final byte BOOLEAN = 4;
+
+    private FormatoBinario() {
+    }
+
+    /**
+     * Tipo de una etiqueta, o null si la etiqueta no es válida.
+     */
+    static TipoDato tipo(byte etiqueta) {
+        return switch (etiqueta) {
+            case STRING -> TipoDato.STRING;
+            case INT -> TipoDato.INT;
+            case FLOAT -> TipoDato.FLOAT;
+            case DOUBLE -> TipoDato.DOUBLE;
+            case BOOLEAN -> TipoDato.BOOLEAN;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package patronadapter;
+
+/**
+ * Factory para crear Entrada y Salida con cuadros de diálogo.
+ */
+class FrameFactory implements IOFactory {
+    @Override
+    public Entrada crearEntrada() {
+        return new EntradaFrame();
+    }
+    
+    @Override
+    public Salida crearSalida() {
+        return new FrameSalida();
+    }
+}
@@ -0,0 +1,33 @@
+package patronadapter;
+
+import javax.swing.JOptionPane;
+
+/**
+ * Implementación de Salida usando cuadros de diálogo (JOptionPane).
+ */
+class FrameSalida implements Salida {
+    @Override
+    public void mostrarString(String dato) {
+        JOptionPane.showMessageDialog(null, "String: " + dato);
+    }
+    
+    @Override
+    public void mostrarBoolean(boolean dato) {
+        JOptionPane.showMessageDialog(null, "Boolean: " + dato);
+    }
+    
+    @Override
+    public void mostrarInt(int dato) {
+        JOptionPane.showMessageDialog(null, "Int: " + dato);
+    }
+    
+    @Override
+    public void mostrarFloat(float dato) {
+        JOptionPane.showMessageDialog(null, "Float: " + dato);
+    }
+    
+    @Override
+    public void mostrarDouble(double dato) {
+        JOptionPane.showMessageDialog(null, "Double: " + dato);
+    }
+}
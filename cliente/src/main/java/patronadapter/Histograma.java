@@ -0,0 +1,176 @@
+package patronadapter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latencias con cubetas log-lineales: exactas hasta 8 ns y,
+ * desde ahí, 8 cubetas por cada potencia de dos (error relativo menor al
+ * 12,5 %). Cuenta también las llamadas con error y la suma de los tiempos.
+ *
+ * Los contadores se reparten en franjas, cada una con espacio libre al final
+ * para que dos franjas no compartan línea de caché. Como en LongAdder, cada
+ * hilo tiene su franja (los hilos nuevos se reparten en orden) y la cambia
+ * por la siguiente cuando otro hilo le gana una suma, así que los hilos que
+ * chocan se separan. Las franjas se juntan al tomar una instantánea, que
+ * nunca bloquea a quien registra.
+ */
+final class Histograma {
+    // Cubetas hasta 2^63 - 1 ns: 8 exactas + 8 por cada exponente de 3 a 62
+    static final int CUBETAS = 488;
+    private static final int ERRORES = CUBETAS;
+    private static final int SUMA = CUBETAS + 1;
+    private static final int FRANJA = 512;
+    static final int FRANJAS = Math.min(16,
+        Integer.highestOneBit(2 * Runtime.getRuntime().availableProcessors() - 1));
+
+    // Sonda de cada hilo; su franja son los bits bajos
+    private static final AtomicInteger PROXIMA = new AtomicInteger();
+    private static final ThreadLocal<int[]> SONDA = ThreadLocal.withInitial(() -> new int[]{PROXIMA.getAndIncrement()});
+
+    private final AtomicLongArray celdas = new AtomicLongArray(FRANJAS * FRANJA);
+
+    /**
+     * Cubeta en la que cae una duración en nanosegundos.
+     */
+    static int cubeta(long nanos) {
+        if (nanos < 8) {
+            return (int) Math.max(nanos, 0);
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(nanos);
+        return ((exponente - 2) << 3) + (int) ((nanos >>> (exponente - 3)) & 7);
+    }
+
+    /**
+     * Mayor duración que cae en la cubeta indicada.
+     */
+    static long limite(int cubeta) {
+        if (cubeta < 8) {
+            return cubeta;
+        }
+        if (cubeta == CUBETAS - 1) {
+            return Long.MAX_VALUE;
+        }
+        int siguiente = cubeta + 1;
+        return ((8L + (siguiente & 7)) << ((siguiente >>> 3) - 1)) - 1;
+    }
+
+    /**
+     * Suma cantidad a la celda indicada de la franja del hilo, en un arreglo
+     * de FRANJAS franjas de ancho celdas. Si otro hilo cambió la celda a la
+     * vez, suma igual y pasa el hilo a la franja siguiente.
+     */
+    static void sumar(AtomicLongArray celdas, int ancho, int celda, long cantidad) {
+        sumar(celdas, SONDA.get(), ancho, celda, cantidad);
+    }
+
+    private static void sumar(AtomicLongArray celdas, int[] sonda, int ancho, int celda, long cantidad) {
+        int i = (sonda[0] & (FRANJAS - 1)) * ancho + celda;
+        long actual = celdas.get(i);
+        if (!celdas.compareAndSet(i, actual, actual + cantidad)) {
+            celdas.getAndAdd(i, cantidad);
+            sonda[0]++;
+        }
+    }
+
+    /**
+     * Registra una llamada que empezó en inicio (un valor de System.nanoTime()).
+     */
+    void registrar(long inicio) {
+        long nanos = System.nanoTime() - inicio;
+        int[] sonda = SONDA.get();
+        sumar(celdas, sonda, FRANJA, cubeta(nanos), 1);
+        sumar(celdas, sonda, FRANJA, SUMA, nanos);
+    }
+
+    /**
+     * Igual que registrar(long), y además cuenta un error si la llamada no fue válida.
+     */
+    void registrar(long inicio, boolean valido) {
+        registrar(inicio);
+        if (!valido) {
+            error();
+        }
+    }
+
+    /**
+     * Registra llamadas que se hicieron juntas desde inicio, repartiendo el
+     * tiempo entre ellas por igual (por ejemplo, los valores de un bloque).
+     */
+    void registrarBloque(long inicio, int llamadas) {
+        long nanos = System.nanoTime() - inicio;
+        int[] sonda = SONDA.get();
+        sumar(celdas, sonda, FRANJA, cubeta(nanos / llamadas), llamadas);
+        sumar(celdas, sonda, FRANJA, SUMA, nanos);
+    }
+
+    /**
+     * Registra una llamada medida que representa a peso llamadas de la misma
+     * duración (ver Medidor).
+     */
+    void registrarMuestra(long inicio, int peso) {
+        long nanos = System.nanoTime() - inicio;
+        int[] sonda = SONDA.get();
+        sumar(celdas, sonda, FRANJA, cubeta(nanos), peso);
+        sumar(celdas, sonda, FRANJA, SUMA, nanos * peso);
+    }
+
+    void error() {
+        sumar(celdas, FRANJA, ERRORES, 1);
+    }
+
+    /**
+     * Suma las franjas. Las lecturas no se coordinan con quien registra, así
+     * que la instantánea puede quedar a mitad de una llamada concurrente.
+     */
+    Instantanea instantanea() {
+        long[] cubetas = new long[CUBETAS];
+        long errores = 0;
+        long suma = 0;
+        for (int base = 0; base < FRANJAS * FRANJA; base += FRANJA) {
+            for (int i = 0; i < CUBETAS; i++) {
+                cubetas[i] += celdas.get(base + i);
+            }
+            errores += celdas.get(base + ERRORES);
+            suma += celdas.get(base + SUMA);
+        }
+        return new Instantanea(cubetas, errores, suma);
+    }
+
+    /**
+     * Estado de un histograma en un momento dado.
+     */
+    record Instantanea(long[] cubetas, long errores, long sumaNanos) {
+        long llamadas() {
+            long total = 0;
+            for (long c : cubetas) {
+                total += c;
+            }
+            return total;
+        }
+
+        double mediaNanos() {
+            long llamadas = llamadas();
+            return llamadas == 0 ? 0 : (double) sumaNanos / llamadas;
+        }
+
+        /**
+         * Cota superior, en nanosegundos, del cuantil q (entre 0 y 1).
+         */
+        long percentil(double q) {
+            long llamadas = llamadas();
+            if (llamadas == 0) {
+                return 0;
+            }
+            long objetivo = Math.max(1, (long) Math.ceil(q * llamadas));
+            long acumulado = 0;
+            for (int i = 0; i < cubetas.length; i++) {
+                acumulado += cubetas[i];
+                if (acumulado >= objetivo) {
+                    return limite(i);
+                }
+            }
+            return limite(cubetas.length - 1);
+        }
+    }
+}
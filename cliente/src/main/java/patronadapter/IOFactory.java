@@ -0,0 +1,22 @@
+package patronadapter;
+
+/**
+ * Abstract Factory para crear objetos de Entrada y Salida.
+ * Permite desacoplar la creación de objetos según el tipo de interfaz (consola o gráfica).
+ */
+interface IOFactory {
+    Entrada crearEntrada();
+    Salida crearSalida();
+
+    /**
+     * Adaptadores que usa el Cliente con esta Entrada y esta Salida.
+     * Por defecto, los de parseo y formateo rápidos.
+     */
+    default AdaptadorEntrada crearAdaptadorEntrada() {
+        return new AdaptadorEntradaRapido();
+    }
+
+    default AdaptadorSalida crearAdaptadorSalida() {
+        return new AdaptadorSalidaRapido();
+    }
+}
@@ -0,0 +1,35 @@
+package patronadapter;
+
+/**
+ * Decorador de IOFactory: envuelve la Entrada, la Salida y los adaptadores
+ * que crea otra fábrica para que midan cada llamada en el registro dado.
+ */
+class InstrumentadaFactory implements IOFactory {
+    private final IOFactory factory;
+    private final Metricas metricas;
+
+    InstrumentadaFactory(IOFactory factory, Metricas metricas) {
+        this.factory = factory;
+        this.metricas = metricas;
+    }
+
+    @Override
+    public Entrada crearEntrada() {
+        return new EntradaInstrumentada(factory.crearEntrada(), metricas);
+    }
+
+    @Override
+    public Salida crearSalida() {
+        return new SalidaInstrumentada(factory.crearSalida(), metricas);
+    }
+
+    @Override
+    public AdaptadorEntrada crearAdaptadorEntrada() {
+        return new AdaptadorEntradaInstrumentado(factory.crearAdaptadorEntrada(), metricas);
+    }
+
+    @Override
+    public AdaptadorSalida crearAdaptadorSalida() {
+        return new AdaptadorSalidaInstrumentado(factory.crearAdaptadorSalida(), metricas);
+    }
+}
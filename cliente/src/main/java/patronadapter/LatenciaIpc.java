@@ -0,0 +1,172 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mide la latencia de ida y vuelta de una petición "int double 42" contra un
+ * proceso convertidor aparte, por tubería (entrada/salida estándar), TCP en
+ * loopback, socket de dominio Unix y anillos en memoria compartida. Envía una petición, espera su respuesta
+ * y repite; muestra la media y los percentiles.
+ */
+final class LatenciaIpc {
+    private static final byte[] PETICION = "int double 42\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int CALENTAMIENTO = 20_000;
+
+    private LatenciaIpc() {
+    }
+
+    static void principal(int iteraciones) throws Exception {
+        Path socket = Path.of(System.getProperty("java.io.tmpdir"), "conversion-" + ProcessHandle.current().pid() + ".sock");
+
+        Process tuberia = iniciar("peticiones");
+        try {
+            medir("Tubería (stdin/stdout)", tuberia.getOutputStream(), tuberia.getInputStream(), iteraciones);
+        } finally {
+            tuberia.destroy();
+        }
+
+        Process tcp = iniciar("servidor", "0", "--peticiones");
+        try (SocketChannel canal = SocketChannel.open(direccionTcp(anuncio(tcp)))) {
+            canal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            medir("TCP loopback", Channels.newOutputStream(canal), Channels.newInputStream(canal), iteraciones);
+        } finally {
+            tcp.destroy();
+        }
+
+        Process unix = iniciar("servidor", socket.toString(), "--peticiones");
+        try {
+            anuncio(unix);
+            try (SocketChannel canal = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+                medir("Socket Unix", Channels.newOutputStream(canal), Channels.newInputStream(canal), iteraciones);
+            }
+        } finally {
+            unix.destroy();
+        }
+
+        Path archivo = Path.of(System.getProperty("java.io.tmpdir"), "conversion-" + ProcessHandle.current().pid() + ".anillo");
+        for (EsperaAnillo espera : EsperaAnillo.values()) {
+            String nombre = "Memoria compartida (" + espera.name().toLowerCase() + ")";
+            // Dos procesos girando en un mismo núcleo sólo se turnan al expirar su quantum
+            if (espera == EsperaAnillo.GIRAR && Runtime.getRuntime().availableProcessors() < 2) {
+                System.out.printf("%-32s se omite: necesita al menos 2 núcleos%n", nombre);
+                continue;
+            }
+            Process anillo = iniciar("anillo", archivo.toString(), espera.name().toLowerCase());
+            try {
+                anuncio(anillo);
+                MemoriaCompartida memoria = MemoriaCompartida.abrir(archivo, espera);
+                ByteBuffer envio = ByteBuffer.wrap(PETICION);
+                ByteBuffer respuesta = ByteBuffer.allocate(256);
+                medir(nombre, () -> idaYVuelta(memoria, envio, respuesta), iteraciones);
+                memoria.peticiones.cerrar();
+                anillo.waitFor();
+            } finally {
+                anillo.destroy();
+                Files.deleteIfExists(archivo);
+            }
+        }
+    }
+
+    /**
+     * Una petición y la espera de su respuesta.
+     */
+    private interface Viaje {
+        void idaYVuelta() throws IOException;
+    }
+
+    private static Process iniciar(String... argumentos) throws IOException {
+        List<String> comando = new ArrayList<>(List.of(
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp", System.getProperty("java.class.path"), Cliente.class.getName()));
+        comando.addAll(List.of(argumentos));
+        return new ProcessBuilder(comando).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+    }
+
+    /**
+     * Espera la línea con la que el servidor anuncia que ya está escuchando.
+     */
+    private static String anuncio(Process servidor) throws IOException {
+        InputStream salida = servidor.getInputStream();
+        StringBuilder linea = new StringBuilder();
+        int b;
+        while ((b = salida.read()) >= 0 && b != '\n') {
+            linea.append((char) b);
+        }
+        return linea.toString();
+    }
+
+    /**
+     * Puerto elegido por el sistema, tomado del anuncio "... en /127.0.0.1:puerto (...)".
+     */
+    private static SocketAddress direccionTcp(String anuncio) {
+        int inicio = anuncio.lastIndexOf(':') + 1;
+        int fin = inicio;
+        while (fin < anuncio.length() && Character.isDigit(anuncio.charAt(fin))) {
+            fin++;
+        }
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(anuncio.substring(inicio, fin)));
+    }
+
+    private static void medir(String nombre, OutputStream escritura, InputStream lectura, int iteraciones)
+            throws IOException {
+        byte[] respuesta = new byte[256];
+        medir(nombre, () -> idaYVuelta(escritura, lectura, respuesta), iteraciones);
+    }
+
+    private static void medir(String nombre, Viaje viaje, int iteraciones) throws IOException {
+        for (int i = 0; i < CALENTAMIENTO; i++) {
+            viaje.idaYVuelta();
+        }
+        long[] tiempos = new long[iteraciones];
+        for (int i = 0; i < iteraciones; i++) {
+            long inicio = System.nanoTime();
+            viaje.idaYVuelta();
+            tiempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tiempos);
+        double media = Arrays.stream(tiempos).average().orElse(0) / 1000;
+        System.out.printf("%-32s media %8.2f us  p50 %8.2f us  p99 %8.2f us  p99.9 %8.2f us%n", nombre, media,
+            tiempos[iteraciones / 2] / 1000.0, tiempos[(int) (iteraciones * 0.99)] / 1000.0,
+            tiempos[(int) (iteraciones * 0.999)] / 1000.0);
+    }
+
+    private static void idaYVuelta(OutputStream escritura, InputStream lectura, byte[] respuesta) throws IOException {
+        escritura.write(PETICION);
+        escritura.flush();
+        // La respuesta es una sola línea
+        int leidos;
+        do {
+            leidos = lectura.read(respuesta);
+            if (leidos < 0) {
+                throw new IOException("El convertidor cerró la conexión");
+            }
+        } while (respuesta[leidos - 1] != '\n');
+    }
+
+    private static void idaYVuelta(MemoriaCompartida memoria, ByteBuffer envio, ByteBuffer respuesta) throws IOException {
+        envio.clear();
+        memoria.peticiones.escribir(envio);
+        do {
+            respuesta.clear();
+            if (memoria.respuestas.leer(respuesta) < 0) {
+                throw new IOException("El convertidor cerró el anillo");
+            }
+        } while (respuesta.get(respuesta.position() - 1) != '\n');
+    }
+}
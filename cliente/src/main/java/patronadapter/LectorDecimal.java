@@ -0,0 +1,399 @@
+package patronadapter;
+
+import java.math.BigInteger;
+
+/**
+ * Parseo de decimales con el algoritmo de Eisel-Lemire: hasta 19 dígitos
+ * significativos se multiplican por una aproximación de 128 bits de la
+ * potencia de cinco y el resultado queda redondeado correctamente sin
+ * aritmética de precisión arbitraria. Cuando el texto tiene más dígitos y
+ * los descartados pueden cambiar el redondeo, o no es un decimal simple
+ * (espacios, sufijos, hexadecimal, NaN...), se usa el camino de LectorNumeros,
+ * que termina en el parseo exacto del JDK. Los bits coinciden siempre con
+ * Double.parseDouble y Float.parseFloat.
+ */
+final class LectorDecimal {
+    // Rango de la tabla de potencias de cinco
+    private static final int POTENCIA_MINIMA = -342;
+    private static final int POTENCIA_MAXIMA = 308;
+
+    // 128 bits más significativos de 5^q, normalizados: alto y bajo alternados
+    private static final long[] POTENCIAS_CINCO = new long[2 * (POTENCIA_MAXIMA - POTENCIA_MINIMA + 1)];
+
+    static {
+        BigInteger dos128 = BigInteger.ONE.shiftLeft(128);
+        for (int q = POTENCIA_MINIMA; q <= POTENCIA_MAXIMA; q++) {
+            BigInteger potencia;
+            if (q < 0) {
+                // Recíproco redondeado hacia arriba y truncado a 128 bits
+                BigInteger cinco = BigInteger.valueOf(5).pow(-q);
+                int z = cinco.subtract(BigInteger.ONE).bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                potencia = BigInteger.ONE.shiftLeft(b).divide(cinco).add(BigInteger.ONE);
+                while (potencia.compareTo(dos128) >= 0) {
+                    potencia = potencia.shiftRight(1);
+                }
+            } else {
+                potencia = BigInteger.valueOf(5).pow(q);
+                int bits = potencia.bitLength();
+                potencia = bits < 128 ? potencia.shiftLeft(128 - bits) : potencia.shiftRight(bits - 128);
+            }
+            int i = 2 * (q - POTENCIA_MINIMA);
+            POTENCIAS_CINCO[i] = potencia.shiftRight(64).longValue();
+            POTENCIAS_CINCO[i + 1] = potencia.longValue();
+        }
+    }
+
+    /**
+     * Parámetros del formato binario: double o float.
+     */
+    private enum Formato {
+        DOUBLE(52, -1023, 0x7FF, -4, 23, -342, 308),
+        FLOAT(23, -127, 0xFF, -17, 10, -65, 38);
+
+        final int bitsMantisa;
+        final int exponenteMinimo;
+        final int infinito;
+        final int minimoParAlPar;
+        final int maximoParAlPar;
+        final int potenciaMinima;
+        final int potenciaMaxima;
+
+        Formato(int bitsMantisa, int exponenteMinimo, int infinito,
+                int minimoParAlPar, int maximoParAlPar, int potenciaMinima, int potenciaMaxima) {
+            this.bitsMantisa = bitsMantisa;
+            this.exponenteMinimo = exponenteMinimo;
+            this.infinito = infinito;
+            this.minimoParAlPar = minimoParAlPar;
+            this.maximoParAlPar = maximoParAlPar;
+            this.potenciaMinima = potenciaMinima;
+            this.potenciaMaxima = potenciaMaxima;
+        }
+    }
+
+    private LectorDecimal() {
+    }
+
+    static double parseDouble(CharSequence s, int desde, int longitud) {
+        double rapido = decimal(s, desde, longitud, Formato.DOUBLE);
+        return rapido == rapido ? rapido : LectorNumeros.parseDouble(s, desde, longitud);
+    }
+
+    static double parseDouble(byte[] b, int desde, int longitud) {
+        double rapido = decimal(b, desde, longitud, Formato.DOUBLE);
+        return rapido == rapido ? rapido : LectorNumeros.parseDouble(b, desde, longitud);
+    }
+
+    static float parseFloat(CharSequence s, int desde, int longitud) {
+        double rapido = decimal(s, desde, longitud, Formato.FLOAT);
+        return rapido == rapido ? (float) rapido : LectorNumeros.parseFloat(s, desde, longitud);
+    }
+
+    static float parseFloat(byte[] b, int desde, int longitud) {
+        double rapido = decimal(b, desde, longitud, Formato.FLOAT);
+        return rapido == rapido ? (float) rapido : LectorNumeros.parseFloat(b, desde, longitud);
+    }
+
+    static boolean intentarDouble(CharSequence s, int desde, int longitud, ResultadoParseo destino) {
+        double rapido = decimal(s, desde, longitud, Formato.DOUBLE);
+        if (rapido == rapido) {
+            destino.ponerDouble(rapido);
+            return true;
+        }
+        return LectorNumeros.intentarDouble(s, desde, longitud, destino);
+    }
+
+    static boolean intentarDouble(byte[] b, int desde, int longitud, ResultadoParseo destino) {
+        double rapido = decimal(b, desde, longitud, Formato.DOUBLE);
+        if (rapido == rapido) {
+            destino.ponerDouble(rapido);
+            return true;
+        }
+        return LectorNumeros.intentarDouble(b, desde, longitud, destino);
+    }
+
+    static boolean intentarFloat(CharSequence s, int desde, int longitud, ResultadoParseo destino) {
+        double rapido = decimal(s, desde, longitud, Formato.FLOAT);
+        if (rapido == rapido) {
+            destino.ponerFloat((float) rapido);
+            return true;
+        }
+        return LectorNumeros.intentarFloat(s, desde, longitud, destino);
+    }
+
+    static boolean intentarFloat(byte[] b, int desde, int longitud, ResultadoParseo destino) {
+        double rapido = decimal(b, desde, longitud, Formato.FLOAT);
+        if (rapido == rapido) {
+            destino.ponerFloat((float) rapido);
+            return true;
+        }
+        return LectorNumeros.intentarFloat(b, desde, longitud, destino);
+    }
+
+    /**
+     * Lee signo, dígitos, punto y exponente opcionales. Guarda los primeros 19
+     * dígitos significativos como entero sin signo y anota si hubo dígitos
+     * distintos de cero después. Devuelve NaN si el texto no es un decimal
+     * simple o si el redondeo no se puede decidir con esos 19 dígitos.
+     */
+    private static double decimal(CharSequence s, int desde, int longitud, Formato formato) {
+        int i = desde;
+        int fin = desde + longitud;
+        if (i >= fin) {
+            return Double.NaN;
+        }
+        boolean negativo = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negativo = c == '-';
+            i++;
+        }
+        long mantisa = 0;
+        int digitos = 0;
+        int significativos = 0;
+        int exponente = 0;
+        boolean truncado = false;
+        for (; i < fin; i++) {
+            c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            digitos++;
+            if (significativos < 19) {
+                mantisa = mantisa * 10 + (c - '0');
+                if (mantisa != 0) {
+                    significativos++;
+                }
+            } else {
+                exponente++;
+                truncado |= c != '0';
+            }
+        }
+        if (i < fin && s.charAt(i) == '.') {
+            for (i++; i < fin; i++) {
+                c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                digitos++;
+                if (significativos < 19) {
+                    mantisa = mantisa * 10 + (c - '0');
+                    exponente--;
+                    if (mantisa != 0) {
+                        significativos++;
+                    }
+                } else {
+                    truncado |= c != '0';
+                }
+            }
+        }
+        if (digitos == 0) {
+            return Double.NaN;
+        }
+        if (i < fin && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            boolean expNegativo = false;
+            if (i < fin && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                expNegativo = s.charAt(i) == '-';
+                i++;
+            }
+            int valorExp = 0;
+            int digitosExp = 0;
+            for (; i < fin; i++) {
+                c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                // Más allá de este valor el resultado ya es cero o infinito
+                if (valorExp < 100_000) {
+                    valorExp = valorExp * 10 + (c - '0');
+                }
+                digitosExp++;
+            }
+            if (digitosExp == 0) {
+                return Double.NaN;
+            }
+            exponente += expNegativo ? -valorExp : valorExp;
+        }
+        if (i != fin) {
+            return Double.NaN;
+        }
+        return componer(mantisa, exponente, negativo, truncado, formato);
+    }
+
+    private static double decimal(byte[] b, int desde, int longitud, Formato formato) {
+        int i = desde;
+        int fin = desde + longitud;
+        if (i >= fin) {
+            return Double.NaN;
+        }
+        boolean negativo = false;
+        int c = b[i];
+        if (c == '-' || c == '+') {
+            negativo = c == '-';
+            i++;
+        }
+        long mantisa = 0;
+        int digitos = 0;
+        int significativos = 0;
+        int exponente = 0;
+        boolean truncado = false;
+        for (; i < fin; i++) {
+            c = b[i];
+            if (c < '0' || c > '9') {
+                break;
+            }
+            digitos++;
+            if (significativos < 19) {
+                mantisa = mantisa * 10 + (c - '0');
+                if (mantisa != 0) {
+                    significativos++;
+                }
+            } else {
+                exponente++;
+                truncado |= c != '0';
+            }
+        }
+        if (i < fin && b[i] == '.') {
+            for (i++; i < fin; i++) {
+                c = b[i];
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                digitos++;
+                if (significativos < 19) {
+                    mantisa = mantisa * 10 + (c - '0');
+                    exponente--;
+                    if (mantisa != 0) {
+                        significativos++;
+                    }
+                } else {
+                    truncado |= c != '0';
+                }
+            }
+        }
+        if (digitos == 0) {
+            return Double.NaN;
+        }
+        if (i < fin && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            boolean expNegativo = false;
+            if (i < fin && (b[i] == '-' || b[i] == '+')) {
+                expNegativo = b[i] == '-';
+                i++;
+            }
+            int valorExp = 0;
+            int digitosExp = 0;
+            for (; i < fin; i++) {
+                c = b[i];
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (valorExp < 100_000) {
+                    valorExp = valorExp * 10 + (c - '0');
+                }
+                digitosExp++;
+            }
+            if (digitosExp == 0) {
+                return Double.NaN;
+            }
+            exponente += expNegativo ? -valorExp : valorExp;
+        }
+        if (i != fin) {
+            return Double.NaN;
+        }
+        return componer(mantisa, exponente, negativo, truncado, formato);
+    }
+
+    /**
+     * Con todos los dígitos prueba primero la división exacta de Clinger y si
+     * no, Eisel-Lemire. Con dígitos descartados el valor real está entre
+     * mantisa y mantisa + 1; si ambos extremos redondean igual, ése es el resultado.
+     */
+    private static double componer(long mantisa, int exponente, boolean negativo, boolean truncado, Formato formato) {
+        if (!truncado) {
+            if (mantisa >= 0) {
+                double rapido = LectorNumeros.clinger(mantisa, exponente, negativo, formato == Formato.FLOAT);
+                if (rapido == rapido) {
+                    return rapido;
+                }
+            }
+            return eiselLemire(mantisa, exponente, negativo, formato);
+        }
+        double abajo = eiselLemire(mantisa, exponente, negativo, formato);
+        double arriba = eiselLemire(mantisa + 1, exponente, negativo, formato);
+        return abajo == arriba ? abajo : Double.NaN;
+    }
+
+    /**
+     * Redondea mantisa * 10^q (mantisa sin signo, distinta de cero al truncar)
+     * al formato pedido. El float se devuelve ampliado a double, sin pérdida.
+     */
+    private static double eiselLemire(long mantisa, int q, boolean negativo, Formato formato) {
+        long m;
+        int exponente2;
+        if (mantisa == 0 || q < formato.potenciaMinima) {
+            m = 0;
+            exponente2 = 0;
+        } else if (q > formato.potenciaMaxima) {
+            m = 0;
+            exponente2 = formato.infinito;
+        } else {
+            int ceros = Long.numberOfLeadingZeros(mantisa);
+            long w = mantisa << ceros;
+
+            // Producto de w por la potencia de cinco: 64 bits altos y bajos
+            int indice = 2 * (q - POTENCIA_MINIMA);
+            long alto = Math.unsignedMultiplyHigh(w, POTENCIAS_CINCO[indice]);
+            long bajo = w * POTENCIAS_CINCO[indice];
+            long mascara = -1L >>> (formato.bitsMantisa + 3);
+            if ((alto & mascara) == mascara) {
+                long segundoAlto = Math.unsignedMultiplyHigh(w, POTENCIAS_CINCO[indice + 1]);
+                bajo += segundoAlto;
+                if (Long.compareUnsigned(segundoAlto, bajo) > 0) {
+                    alto++;
+                }
+            }
+
+            int bitAlto = (int) (alto >>> 63);
+            int desplazamiento = bitAlto + 64 - formato.bitsMantisa - 3;
+            m = alto >>> desplazamiento;
+            exponente2 = (((152170 + 65536) * q) >> 16) + 63 + bitAlto - ceros - formato.exponenteMinimo;
+            if (exponente2 <= 0) {
+                // Subnormal
+                if (-exponente2 + 1 >= 64) {
+                    m = 0;
+                    exponente2 = 0;
+                } else {
+                    m >>>= -exponente2 + 1;
+                    m += m & 1;
+                    m >>>= 1;
+                    exponente2 = m < (1L << formato.bitsMantisa) ? 0 : 1;
+                }
+            } else {
+                // Empate exacto: redondear al par en lugar de hacia arriba
+                if ((bajo == 0 || bajo == 1) && q >= formato.minimoParAlPar && q <= formato.maximoParAlPar
+                    && (m & 3) == 1 && (m << desplazamiento) == alto) {
+                    m &= ~1L;
+                }
+                m += m & 1;
+                m >>>= 1;
+                if (m >= (2L << formato.bitsMantisa)) {
+                    m = 1L << formato.bitsMantisa;
+                    exponente2++;
+                }
+                m &= ~(1L << formato.bitsMantisa);
+                if (exponente2 >= formato.infinito) {
+                    m = 0;
+                    exponente2 = formato.infinito;
+                }
+            }
+        }
+        if (formato == Formato.FLOAT) {
+            float f = Float.intBitsToFloat((int) m | exponente2 << 23);
+            return negativo ? -f : f;
+        }
+        double d = Double.longBitsToDouble(m | (long) exponente2 << 52);
+        return negativo ? -d : d;
+    }
+}
@@ -0,0 +1,615 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Rutinas de parseo sobre rangos de caracteres o de bytes, sin crear substrings.
+ * Los bytes se interpretan como caracteres ISO-8859-1 (ASCII en la práctica).
+ * Los resultados y las excepciones coinciden con Integer.parseInt,
+ * Float.parseFloat, Double.parseDouble y Boolean.parseBoolean.
+ */
+final class LectorNumeros {
+    // Potencias de diez exactas en double (hasta 10^22) y en float (hasta 10^10)
+    private static final double[] POTENCIAS_DOUBLE = new double[23];
+    private static final float[] POTENCIAS_FLOAT = new float[11];
+
+    static {
+        double p = 1;
+        for (int i = 0; i < POTENCIAS_DOUBLE.length; i++) {
+            POTENCIAS_DOUBLE[i] = p;
+            p *= 10;
+        }
+        float q = 1;
+        for (int i = 0; i < POTENCIAS_FLOAT.length; i++) {
+            POTENCIAS_FLOAT[i] = q;
+            q *= 10;
+        }
+    }
+
+    // Copia temporal para leer desde ByteBuffer directos
+    private static final ThreadLocal<byte[]> TEMPORAL = ThreadLocal.withInitial(() -> new byte[64]);
+
+    private LectorNumeros() {
+    }
+
+    // ---- boolean ----
+
+    static boolean parseBoolean(CharSequence s, int desde, int longitud) {
+        if (longitud != 4) {
+            return false;
+        }
+        return igualIgnorandoMayusculas(s.charAt(desde), 't')
+            && igualIgnorandoMayusculas(s.charAt(desde + 1), 'r')
+            && igualIgnorandoMayusculas(s.charAt(desde + 2), 'u')
+            && igualIgnorandoMayusculas(s.charAt(desde + 3), 'e');
+    }
+
+    static boolean parseBoolean(byte[] b, int desde, int longitud) {
+        if (longitud != 4) {
+            return false;
+        }
+        return igualIgnorandoMayusculas((char) (b[desde] & 0xFF), 't')
+            && igualIgnorandoMayusculas((char) (b[desde + 1] & 0xFF), 'r')
+            && igualIgnorandoMayusculas((char) (b[desde + 2] & 0xFF), 'u')
+            && igualIgnorandoMayusculas((char) (b[desde + 3] & 0xFF), 'e');
+    }
+
+    /**
+     * Validación estricta de boolean: 1 si es "true", 0 si es "false"
+     * (sin distinguir mayúsculas) y -1 para cualquier otro texto.
+     */
+    static int intentarBoolean(CharSequence s, int desde, int longitud) {
+        if (parseBoolean(s, desde, longitud)) {
+            return 1;
+        }
+        if (longitud == 5
+            && igualIgnorandoMayusculas(s.charAt(desde), 'f')
+            && igualIgnorandoMayusculas(s.charAt(desde + 1), 'a')
+            && igualIgnorandoMayusculas(s.charAt(desde + 2), 'l')
+            && igualIgnorandoMayusculas(s.charAt(desde + 3), 's')
+            && igualIgnorandoMayusculas(s.charAt(desde + 4), 'e')) {
+            return 0;
+        }
+        return -1;
+    }
+
+    static int intentarBoolean(byte[] b, int desde, int longitud) {
+        if (parseBoolean(b, desde, longitud)) {
+            return 1;
+        }
+        if (longitud == 5
+            && igualIgnorandoMayusculas((char) (b[desde] & 0xFF), 'f')
+            && igualIgnorandoMayusculas((char) (b[desde + 1] & 0xFF), 'a')
+            && igualIgnorandoMayusculas((char) (b[desde + 2] & 0xFF), 'l')
+            && igualIgnorandoMayusculas((char) (b[desde + 3] & 0xFF), 's')
+            && igualIgnorandoMayusculas((char) (b[desde + 4] & 0xFF), 'e')) {
+            return 0;
+        }
+        return -1;
+    }
+
+    // Misma comparación carácter a carácter que String.equalsIgnoreCase
+    private static boolean igualIgnorandoMayusculas(char c, char esperado) {
+        if (c == esperado) {
+            return true;
+        }
+        char u1 = Character.toUpperCase(c);
+        char u2 = Character.toUpperCase(esperado);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
+
+    // ---- int ----
+
+    // Valor fuera del rango de int que indica un texto no válido
+    static final long FALLO = Long.MIN_VALUE;
+
+    static int parseInt(CharSequence s, int desde, int longitud) {
+        long valor = intentarInt(s, desde, longitud);
+        if (valor == FALLO) {
+            throw error(s, desde, longitud);
+        }
+        return (int) valor;
+    }
+
+    static int parseInt(byte[] b, int desde, int longitud) {
+        long valor = intentarInt(b, desde, longitud);
+        if (valor == FALLO) {
+            throw error(b, desde, longitud);
+        }
+        return (int) valor;
+    }
+
+    /**
+     * Parsea un int sin lanzar excepciones; devuelve FALLO si el texto no es válido.
+     */
+    static long intentarInt(CharSequence s, int desde, int longitud) {
+        if (longitud <= 0) {
+            return FALLO;
+        }
+        int i = desde;
+        int fin = desde + longitud;
+        boolean negativo = false;
+        int limite = -Integer.MAX_VALUE;
+        char primero = s.charAt(i);
+        if (primero < '0') {
+            if (primero == '-') {
+                negativo = true;
+                limite = Integer.MIN_VALUE;
+            } else if (primero != '+') {
+                return FALLO;
+            }
+            if (longitud == 1) {
+                return FALLO;
+            }
+            i++;
+        }
+        int multiplicadorMinimo = limite / 10;
+        int resultado = 0;
+        while (i < fin) {
+            int digito = Character.digit(s.charAt(i++), 10);
+            if (digito < 0 || resultado < multiplicadorMinimo) {
+                return FALLO;
+            }
+            resultado *= 10;
+            if (resultado < limite + digito) {
+                return FALLO;
+            }
+            resultado -= digito;
+        }
+        return negativo ? resultado : -resultado;
+    }
+
+    static long intentarInt(byte[] b, int desde, int longitud) {
+        if (longitud <= 0) {
+            return FALLO;
+        }
+        int i = desde;
+        int fin = desde + longitud;
+        boolean negativo = false;
+        int limite = -Integer.MAX_VALUE;
+        int primero = b[i] & 0xFF;
+        if (primero < '0') {
+            if (primero == '-') {
+                negativo = true;
+                limite = Integer.MIN_VALUE;
+            } else if (primero != '+') {
+                return FALLO;
+            }
+            if (longitud == 1) {
+                return FALLO;
+            }
+            i++;
+        }
+        int multiplicadorMinimo = limite / 10;
+        int resultado = 0;
+        while (i < fin) {
+            int digito = (b[i++] & 0xFF) - '0';
+            if (digito < 0 || digito > 9 || resultado < multiplicadorMinimo) {
+                return FALLO;
+            }
+            resultado *= 10;
+            if (resultado < limite + digito) {
+                return FALLO;
+            }
+            resultado -= digito;
+        }
+        return negativo ? resultado : -resultado;
+    }
+
+    // ---- float / double ----
+
+    static double parseDouble(CharSequence s, int desde, int longitud) {
+        double rapido = decimalSimple(s, desde, longitud, false);
+        if (rapido == rapido) {
+            return rapido;
+        }
+        return Double.parseDouble(s.subSequence(desde, desde + longitud).toString());
+    }
+
+    static double parseDouble(byte[] b, int desde, int longitud) {
+        double rapido = decimalSimple(b, desde, longitud, false);
+        if (rapido == rapido) {
+            return rapido;
+        }
+        return Double.parseDouble(new String(b, desde, longitud, StandardCharsets.ISO_8859_1));
+    }
+
+    static float parseFloat(CharSequence s, int desde, int longitud) {
+        double rapido = decimalSimple(s, desde, longitud, true);
+        if (rapido == rapido) {
+            return (float) rapido;
+        }
+        return Float.parseFloat(s.subSequence(desde, desde + longitud).toString());
+    }
+
+    static float parseFloat(byte[] b, int desde, int longitud) {
+        double rapido = decimalSimple(b, desde, longitud, true);
+        if (rapido == rapido) {
+            return (float) rapido;
+        }
+        return Float.parseFloat(new String(b, desde, longitud, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Parsea un double sin lanzar excepciones. Los textos que no entran en el
+     * camino rápido se validan con la gramática del JDK antes de parsearlos,
+     * así un texto inválido nunca llega a crear una excepción.
+     */
+    static boolean intentarDouble(CharSequence s, int desde, int longitud, ResultadoParseo destino) {
+        double rapido = decimalSimple(s, desde, longitud, false);
+        if (rapido == rapido) {
+            destino.ponerDouble(rapido);
+            return true;
+        }
+        if (!esNumeroJava(s, desde, longitud)) {
+            return false;
+        }
+        destino.ponerDouble(Double.parseDouble(s.subSequence(desde, desde + longitud).toString()));
+        return true;
+    }
+
+    static boolean intentarDouble(byte[] b, int desde, int longitud, ResultadoParseo destino) {
+        double rapido = decimalSimple(b, desde, longitud, false);
+        if (rapido == rapido) {
+            destino.ponerDouble(rapido);
+            return true;
+        }
+        String texto = new String(b, desde, longitud, StandardCharsets.ISO_8859_1);
+        if (!esNumeroJava(texto, 0, longitud)) {
+            return false;
+        }
+        destino.ponerDouble(Double.parseDouble(texto));
+        return true;
+    }
+
+    static boolean intentarFloat(CharSequence s, int desde, int longitud, ResultadoParseo destino) {
+        double rapido = decimalSimple(s, desde, longitud, true);
+        if (rapido == rapido) {
+            destino.ponerFloat((float) rapido);
+            return true;
+        }
+        if (!esNumeroJava(s, desde, longitud)) {
+            return false;
+        }
+        destino.ponerFloat(Float.parseFloat(s.subSequence(desde, desde + longitud).toString()));
+        return true;
+    }
+
+    static boolean intentarFloat(byte[] b, int desde, int longitud, ResultadoParseo destino) {
+        double rapido = decimalSimple(b, desde, longitud, true);
+        if (rapido == rapido) {
+            destino.ponerFloat((float) rapido);
+            return true;
+        }
+        String texto = new String(b, desde, longitud, StandardCharsets.ISO_8859_1);
+        if (!esNumeroJava(texto, 0, longitud)) {
+            return false;
+        }
+        destino.ponerFloat(Float.parseFloat(texto));
+        return true;
+    }
+
+    /**
+     * Valida la gramática que aceptan Double.parseDouble y Float.parseFloat:
+     * espacios alrededor, signo, NaN, Infinity, hexadecimal con exponente 'p',
+     * decimal con exponente opcional y sufijo f/F/d/D opcional.
+     */
+    static boolean esNumeroJava(CharSequence s, int desde, int longitud) {
+        int i = desde;
+        int fin = desde + longitud;
+        while (i < fin && s.charAt(i) <= ' ') {
+            i++;
+        }
+        while (fin > i && s.charAt(fin - 1) <= ' ') {
+            fin--;
+        }
+        if (i == fin) {
+            return false;
+        }
+        char c = s.charAt(i);
+        if (c == '+' || c == '-') {
+            if (++i == fin) {
+                return false;
+            }
+            c = s.charAt(i);
+        }
+        if (c == 'N') {
+            return esPalabra(s, i, fin, "NaN");
+        }
+        if (c == 'I') {
+            return esPalabra(s, i, fin, "Infinity");
+        }
+        if (c == '0' && i + 1 < fin && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')) {
+            return esHexadecimalJava(s, i + 2, fin);
+        }
+        int digitos = 0;
+        while (i < fin && esDigito(s.charAt(i))) {
+            i++;
+            digitos++;
+        }
+        if (i < fin && s.charAt(i) == '.') {
+            i++;
+            while (i < fin && esDigito(s.charAt(i))) {
+                i++;
+                digitos++;
+            }
+        }
+        if (digitos == 0) {
+            return false;
+        }
+        if (i < fin && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i = finExponente(s, i + 1, fin);
+            if (i < 0) {
+                return false;
+            }
+        }
+        return esFinConSufijo(s, i, fin);
+    }
+
+    private static boolean esHexadecimalJava(CharSequence s, int i, int fin) {
+        int antes = 0;
+        while (i < fin && Character.digit(s.charAt(i), 16) >= 0 && s.charAt(i) < 128) {
+            i++;
+            antes++;
+        }
+        int despues = 0;
+        if (i < fin && s.charAt(i) == '.') {
+            i++;
+            while (i < fin && Character.digit(s.charAt(i), 16) >= 0 && s.charAt(i) < 128) {
+                i++;
+                despues++;
+            }
+        }
+        if (antes == 0 && despues == 0) {
+            return false;
+        }
+        if (i >= fin || (s.charAt(i) != 'p' && s.charAt(i) != 'P')) {
+            return false;
+        }
+        i = finExponente(s, i + 1, fin);
+        return i >= 0 && esFinConSufijo(s, i, fin);
+    }
+
+    // Signo opcional y al menos un dígito; devuelve la posición final o -1
+    private static int finExponente(CharSequence s, int i, int fin) {
+        if (i < fin && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+            i++;
+        }
+        int inicio = i;
+        while (i < fin && esDigito(s.charAt(i))) {
+            i++;
+        }
+        return i == inicio ? -1 : i;
+    }
+
+    private static boolean esFinConSufijo(CharSequence s, int i, int fin) {
+        if (i == fin) {
+            return true;
+        }
+        if (i != fin - 1) {
+            return false;
+        }
+        char c = s.charAt(i);
+        return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+    }
+
+    private static boolean esPalabra(CharSequence s, int i, int fin, String palabra) {
+        if (fin - i != palabra.length()) {
+            return false;
+        }
+        for (int k = 0; k < palabra.length(); k++) {
+            if (s.charAt(i + k) != palabra.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean esDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Camino rápido (Clinger) para decimales simples: signo, dígitos, punto y
+     * exponente opcionales. Si la mantisa y el exponente caben en el rango en
+     * que una sola multiplicación o división es exacta, el resultado coincide
+     * con el del JDK. Devuelve NaN cuando el texto debe ir por el camino general.
+     */
+    private static double decimalSimple(CharSequence s, int desde, int longitud, boolean comoFloat) {
+        int i = desde;
+        int fin = desde + longitud;
+        if (i >= fin) {
+            return Double.NaN;
+        }
+        boolean negativo = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negativo = c == '-';
+            i++;
+        }
+        long mantisa = 0;
+        int digitos = 0;
+        int significativos = 0;
+        int exponente = 0;
+        for (; i < fin; i++) {
+            c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            mantisa = mantisa * 10 + (c - '0');
+            digitos++;
+            if (mantisa != 0 && ++significativos > 18) {
+                return Double.NaN;
+            }
+        }
+        if (i < fin && s.charAt(i) == '.') {
+            for (i++; i < fin; i++) {
+                c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                mantisa = mantisa * 10 + (c - '0');
+                digitos++;
+                exponente--;
+                if (mantisa != 0 && ++significativos > 18) {
+                    return Double.NaN;
+                }
+            }
+        }
+        if (digitos == 0) {
+            return Double.NaN;
+        }
+        if (i < fin && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            boolean expNegativo = false;
+            if (i < fin && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                expNegativo = s.charAt(i) == '-';
+                i++;
+            }
+            int valorExp = 0;
+            int digitosExp = 0;
+            for (; i < fin; i++) {
+                c = s.charAt(i);
+                if (c < '0' || c > '9' || valorExp > 9999) {
+                    break;
+                }
+                valorExp = valorExp * 10 + (c - '0');
+                digitosExp++;
+            }
+            if (digitosExp == 0) {
+                return Double.NaN;
+            }
+            exponente += expNegativo ? -valorExp : valorExp;
+        }
+        if (i != fin) {
+            return Double.NaN;
+        }
+        return clinger(mantisa, exponente, negativo, comoFloat);
+    }
+
+    private static double decimalSimple(byte[] b, int desde, int longitud, boolean comoFloat) {
+        int i = desde;
+        int fin = desde + longitud;
+        if (i >= fin) {
+            return Double.NaN;
+        }
+        boolean negativo = false;
+        int c = b[i];
+        if (c == '-' || c == '+') {
+            negativo = c == '-';
+            i++;
+        }
+        long mantisa = 0;
+        int digitos = 0;
+        int significativos = 0;
+        int exponente = 0;
+        for (; i < fin; i++) {
+            c = b[i];
+            if (c < '0' || c > '9') {
+                break;
+            }
+            mantisa = mantisa * 10 + (c - '0');
+            digitos++;
+            if (mantisa != 0 && ++significativos > 18) {
+                return Double.NaN;
+            }
+        }
+        if (i < fin && b[i] == '.') {
+            for (i++; i < fin; i++) {
+                c = b[i];
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                mantisa = mantisa * 10 + (c - '0');
+                digitos++;
+                exponente--;
+                if (mantisa != 0 && ++significativos > 18) {
+                    return Double.NaN;
+                }
+            }
+        }
+        if (digitos == 0) {
+            return Double.NaN;
+        }
+        if (i < fin && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            boolean expNegativo = false;
+            if (i < fin && (b[i] == '-' || b[i] == '+')) {
+                expNegativo = b[i] == '-';
+                i++;
+            }
+            int valorExp = 0;
+            int digitosExp = 0;
+            for (; i < fin; i++) {
+                c = b[i];
+                if (c < '0' || c > '9' || valorExp > 9999) {
+                    break;
+                }
+                valorExp = valorExp * 10 + (c - '0');
+                digitosExp++;
+            }
+            if (digitosExp == 0) {
+                return Double.NaN;
+            }
+            exponente += expNegativo ? -valorExp : valorExp;
+        }
+        if (i != fin) {
+            return Double.NaN;
+        }
+        return clinger(mantisa, exponente, negativo, comoFloat);
+    }
+
+    static double clinger(long mantisa, int exponente, boolean negativo, boolean comoFloat) {
+        if (comoFloat) {
+            if (mantisa > (1L << 24) || exponente < -10 || exponente > 10) {
+                return Double.NaN;
+            }
+            float f = (float) mantisa;
+            f = exponente < 0 ? f / POTENCIAS_FLOAT[-exponente] : f * POTENCIAS_FLOAT[exponente];
+            return negativo ? -f : f;
+        }
+        if (mantisa > (1L << 53) || exponente < -22 || exponente > 22) {
+            return Double.NaN;
+        }
+        double d = (double) mantisa;
+        d = exponente < 0 ? d / POTENCIAS_DOUBLE[-exponente] : d * POTENCIAS_DOUBLE[exponente];
+        return negativo ? -d : d;
+    }
+
+    // ---- ByteBuffer ----
+
+    /**
+     * Devuelve un arreglo con los bytes del rango: el propio arreglo si el buffer
+     * lo tiene, o una copia temporal por hilo si es un buffer directo.
+     * El desplazamiento real dentro del arreglo se obtiene con desplazamiento().
+     */
+    static byte[] bytes(ByteBuffer buffer, int desde, int longitud) {
+        if (buffer.hasArray()) {
+            return buffer.array();
+        }
+        byte[] temporal = TEMPORAL.get();
+        if (temporal.length < longitud) {
+            temporal = new byte[Math.max(longitud, temporal.length * 2)];
+            TEMPORAL.set(temporal);
+        }
+        buffer.get(desde, temporal, 0, longitud);
+        return temporal;
+    }
+
+    static int desplazamiento(ByteBuffer buffer, int desde) {
+        return buffer.hasArray() ? buffer.arrayOffset() + desde : 0;
+    }
+
+    // ---- errores ----
+
+    private static NumberFormatException error(CharSequence s, int desde, int longitud) {
+        return new NumberFormatException("For input string: \"" + s.subSequence(desde, desde + longitud) + "\"");
+    }
+
+    private static NumberFormatException error(byte[] b, int desde, int longitud) {
+        return new NumberFormatException(
+            "For input string: \"" + new String(b, desde, longitud, StandardCharsets.ISO_8859_1) + "\""
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package patronadapter;
+
+/**
+ * Tabla precompilada 5x5 de conversores entre string/int/float/double/boolean.
+ * Reemplaza el antiguo "formatear y volver a parsear" del Paso 4, dando los
+ * mismos resultados para cada par permitido. Las celdas nulas son conversiones
+ * no permitidas.
+ */
+final class MatrizConversion {
+    private static final Conversor[][] TABLA =
+        new Conversor[TipoDato.values().length][TipoDato.values().length];
+
+    static {
+        poner(TipoDato.STRING, TipoDato.STRING, MatrizConversion::mostrarTexto);
+        poner(TipoDato.STRING, TipoDato.INT, MatrizConversion::textoAInt);
+        poner(TipoDato.STRING, TipoDato.FLOAT, MatrizConversion::textoAFloat);
+        poner(TipoDato.STRING, TipoDato.DOUBLE, MatrizConversion::textoADouble);
+        poner(TipoDato.STRING, TipoDato.BOOLEAN, (v, c) -> {
+            c.salida.mostrarBoolean(v.texto() != null && c.lector.toBoolean(v.texto(), v.desde(), v.longitud()));
+            return true;
+        });
+
+        poner(TipoDato.INT, TipoDato.INT, (v, c) -> {
+            c.salida.mostrarInt(v.entero());
+            return true;
+        });
+        poner(TipoDato.INT, TipoDato.STRING, MatrizConversion::mostrarTexto);
+        poner(TipoDato.INT, TipoDato.FLOAT, (v, c) -> {
+            c.salida.mostrarFloat((float) v.entero());
+            return true;
+        });
+        poner(TipoDato.INT, TipoDato.DOUBLE, (v, c) -> {
+            c.salida.mostrarDouble((double) v.entero());
+            return true;
+        });
+
+        poner(TipoDato.FLOAT, TipoDato.FLOAT, (v, c) -> {
+            c.salida.mostrarFloat(v.flotante());
+            return true;
+        });
+        poner(TipoDato.FLOAT, TipoDato.STRING, MatrizConversion::mostrarTexto);
+        poner(TipoDato.FLOAT, TipoDato.DOUBLE, (v, c) -> {
+            c.salida.mostrarDouble(floatADouble(v.flotante(), c));
+            return true;
+        });
+
+        poner(TipoDato.DOUBLE, TipoDato.DOUBLE, (v, c) -> {
+            c.salida.mostrarDouble(v.doble());
+            return true;
+        });
+        poner(TipoDato.DOUBLE, TipoDato.STRING, MatrizConversion::mostrarTexto);
+        poner(TipoDato.DOUBLE, TipoDato.FLOAT, (v, c) -> {
+            c.salida.mostrarFloat(doubleAFloat(v.doble(), c));
+            return true;
+        });
+
+        poner(TipoDato.BOOLEAN, TipoDato.BOOLEAN, (v, c) -> {
+            c.salida.mostrarBoolean(v.booleano());
+            return true;
+        });
+        poner(TipoDato.BOOLEAN, TipoDato.STRING, MatrizConversion::mostrarTexto);
+    }
+
+    private MatrizConversion() {
+    }
+
+    private static void poner(TipoDato tipoEntrada, TipoDato tipoSalida, Conversor conversor) {
+        TABLA[tipoEntrada.ordinal()][tipoSalida.ordinal()] = conversor;
+    }
+
+    /**
+     * Devuelve el conversor entre dos tipos, o null si la conversión no está permitida.
+     */
+    static Conversor obtener(TipoDato tipoEntrada, TipoDato tipoSalida) {
+        return TABLA[tipoEntrada.ordinal()][tipoSalida.ordinal()];
+    }
+
+    private static boolean mostrarTexto(Valor valor, ContextoConversion c) {
+        AdaptadorSalida formato = c.formato;
+        c.salida.mostrarString(switch (valor.tipo()) {
+            case STRING -> formato.formatString(valor.cadena());
+            case INT -> formato.formatInt(valor.entero());
+            case FLOAT -> formato.formatFloat(valor.flotante());
+            case DOUBLE -> formato.formatDouble(valor.doble());
+            case BOOLEAN -> formato.formatBoolean(valor.booleano());
+        });
+        return true;
+    }
+
+    private static boolean textoAInt(Valor valor, ContextoConversion c) {
+        if (valor.texto() == null || !c.lector.intentarInt(valor.texto(), valor.desde(), valor.longitud(), c.temporal)) {
+            return false;
+        }
+        c.salida.mostrarInt(c.temporal.entero());
+        return true;
+    }
+
+    private static boolean textoAFloat(Valor valor, ContextoConversion c) {
+        if (valor.texto() == null || !c.lector.intentarFloat(valor.texto(), valor.desde(), valor.longitud(), c.temporal)) {
+            return false;
+        }
+        c.salida.mostrarFloat(c.temporal.flotante());
+        return true;
+    }
+
+    private static boolean textoADouble(Valor valor, ContextoConversion c) {
+        if (valor.texto() == null || !c.lector.intentarDouble(valor.texto(), valor.desde(), valor.longitud(), c.temporal)) {
+            return false;
+        }
+        c.salida.mostrarDouble(c.temporal.doble());
+        return true;
+    }
+
+    /**
+     * Equivale a Double.parseDouble(Float.toString(f)): el double es el del
+     * decimal más corto del float, no su valor binario exacto. Los enteros
+     * pequeños y los valores especiales coinciden con el cast directo.
+     * El texto intermedio se escribe en c.digitos, sin crear Strings.
+     */
+    static double floatADouble(float f, ContextoConversion c) {
+        if (Float.isNaN(f)) {
+            return Double.NaN;
+        }
+        if ((f == (int) f && Math.abs(f) < 1e7f) || Float.isInfinite(f)) {
+            return f;
+        }
+        return c.lector.toDouble(c.digitos, 0, c.formato.escribirFloat(f, c.digitos, 0));
+    }
+
+    /**
+     * Equivale a Float.parseFloat(Double.toString(d)). El cast directo solo
+     * difiere cuando d está a menos de un ulp de un punto medio entre dos
+     * floats (doble redondeo); en ese caso se usa el camino por texto.
+     */
+    static float doubleAFloat(double d, ContextoConversion c) {
+        if (Double.isNaN(d)) {
+            return Float.NaN;
+        }
+        float f = (float) d;
+        if (Double.isInfinite(d)) {
+            return f;
+        }
+        if (!Float.isInfinite(f) && Math.abs(f) != Float.MAX_VALUE) {
+            double ulp = Math.ulp(d);
+            double medioAbajo = ((double) f + (double) Math.nextDown(f)) / 2;
+            double medioArriba = ((double) f + (double) Math.nextUp(f)) / 2;
+            if (d - medioAbajo > ulp && medioArriba - d > ulp) {
+                return f;
+            }
+        }
+        return c.lector.toFloat(c.digitos, 0, c.formato.escribirDouble(d, c.digitos, 0));
+    }
+}
@@ -0,0 +1,48 @@
+package patronadapter;
+
+/**
+ * Mide las llamadas a un método de un decorador en su Histograma, leyendo el
+ * reloj sólo en una muestra: las primeras EXACTAS llamadas se miden todas y,
+ * desde ahí, una de cada MUESTREO, que se registra con el peso de las
+ * MUESTREO llamadas que representa. Así las llamadas sin medir cuestan un
+ * incremento y el histograma sigue contando el total, salvo las menos de
+ * MUESTREO pendientes desde la última muestra. Los errores se cuentan todos.
+ *
+ * Cada decorador tiene sus Medidores y se usa desde un hilo por vez; el
+ * contador no es atómico porque una carrera sólo corre qué llamada se mide.
+ */
+final class Medidor {
+    static final int EXACTAS = 1024;
+    static final int MUESTREO = 16;
+    // Valor de iniciar() para las llamadas que no se miden
+    private static final long SIN_MUESTRA = Long.MIN_VALUE;
+
+    private final Histograma histograma;
+    private long llamadas;
+
+    Medidor(Histograma histograma) {
+        this.histograma = histograma;
+    }
+
+    /**
+     * Empieza una llamada: devuelve System.nanoTime() si la llamada es parte
+     * de la muestra, o SIN_MUESTRA si no.
+     */
+    long iniciar() {
+        long n = ++llamadas;
+        return n <= EXACTAS || (n & (MUESTREO - 1)) == 0 ? System.nanoTime() : SIN_MUESTRA;
+    }
+
+    /**
+     * Termina la llamada que devolvió inicio en iniciar().
+     */
+    void terminar(long inicio) {
+        if (inicio != SIN_MUESTRA) {
+            histograma.registrarMuestra(inicio, llamadas <= EXACTAS ? 1 : MUESTREO);
+        }
+    }
+
+    void error() {
+        histograma.error();
+    }
+}
@@ -0,0 +1,66 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Archivo mapeado con dos anillos: uno de peticiones (del productor al
+ * convertidor) y otro de respuestas (del convertidor al productor).
+ */
+final class MemoriaCompartida {
+    static final int CAPACIDAD = 1 << 20;
+    private static final int TAMANO_ANILLO = AnilloBytes.CABECERA + CAPACIDAD;
+
+    final AnilloBytes peticiones;
+    final AnilloBytes respuestas;
+
+    private MemoriaCompartida(MappedByteBuffer mapa, EsperaAnillo espera) {
+        this.peticiones = new AnilloBytes(mapa, 0, CAPACIDAD, espera);
+        this.respuestas = new AnilloBytes(mapa, TAMANO_ANILLO, CAPACIDAD, espera);
+    }
+
+    /**
+     * Crea (o vacía) el archivo compartido; lo usa el convertidor. Sólo
+     * reemplaza un archivo que ya exista si tiene el tamaño exacto de los dos
+     * anillos; cualquier otro archivo en la ruta se deja intacto y falla.
+     */
+    static MemoriaCompartida crear(Path archivo, EsperaAnillo espera) {
+        try {
+            BasicFileAttributes atributos = Files.readAttributes(archivo, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (!atributos.isRegularFile() || atributos.size() != 2L * TAMANO_ANILLO) {
+                throw new FileAlreadyExistsException(archivo.toString(), null, "existe y no es un archivo de anillo");
+            }
+            Files.delete(archivo);
+        } catch (NoSuchFileException e) {
+            // No había archivo anterior
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return mapear(archivo, espera, StandardOpenOption.CREATE_NEW);
+    }
+
+    /**
+     * Abre un archivo compartido ya creado; lo usa el productor.
+     */
+    static MemoriaCompartida abrir(Path archivo, EsperaAnillo espera) {
+        return mapear(archivo, espera, StandardOpenOption.WRITE);
+    }
+
+    private static MemoriaCompartida mapear(Path archivo, EsperaAnillo espera, StandardOpenOption modo) {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ, StandardOpenOption.WRITE, modo)) {
+            // El mapeo sigue siendo válido después de cerrar el canal
+            return new MemoriaCompartida(canal.map(FileChannel.MapMode.READ_WRITE, 0, 2L * TAMANO_ANILLO), espera);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package patronadapter;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de histogramas por nombre de método ("Entrada.ingresarString",
+ * "AdaptadorEntrada.intentarInt", ...). Los decoradores piden su histograma
+ * una vez al crearse, así que el mapa no se consulta en cada llamada.
+ */
+final class Metricas {
+    private static final Metricas GLOBAL = new Metricas();
+
+    private final Map<String, Histograma> metodos = new ConcurrentHashMap<>();
+
+    /**
+     * Registro compartido por todo el proceso.
+     */
+    static Metricas global() {
+        return GLOBAL;
+    }
+
+    Histograma metodo(String nombre) {
+        return metodos.computeIfAbsent(nombre, n -> new Histograma());
+    }
+
+    /**
+     * Medidor nuevo sobre el histograma del método, para un decorador.
+     */
+    Medidor medidor(String nombre) {
+        return new Medidor(metodo(nombre));
+    }
+
+    /**
+     * Instantáneas de todos los métodos, ordenadas por nombre.
+     */
+    Map<String, Histograma.Instantanea> instantaneas() {
+        Map<String, Histograma.Instantanea> resultado = new TreeMap<>();
+        metodos.forEach((nombre, histograma) -> resultado.put(nombre, histograma.instantanea()));
+        return resultado;
+    }
+
+    /**
+     * Tabla con llamadas, errores y latencias (media y percentiles, en ns)
+     * de los métodos que se llamaron al menos una vez.
+     */
+    void reporte(PrintStream out) {
+        out.printf("%-36s %12s %10s %10s %10s %10s %12s%n",
+            "Método", "llamadas", "errores", "media ns", "p50 ns", "p99 ns", "p99.9 ns");
+        instantaneas().forEach((nombre, i) -> {
+            long llamadas = i.llamadas();
+            if (llamadas > 0) {
+                out.printf("%-36s %,12d %,10d %,10.0f %,10d %,10d %,12d%n", nombre, llamadas, i.errores(),
+                    i.mediaNanos(), i.percentil(0.50), i.percentil(0.99), i.percentil(0.999));
+            }
+        });
+    }
+}
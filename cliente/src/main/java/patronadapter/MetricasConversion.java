@@ -0,0 +1,157 @@
+package patronadapter;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+
+/**
+ * Contadores de las conversiones que hace Cliente: un histograma por par de
+ * tipos permitido (tiempo de parsear, convertir y mostrar cada valor, con
+ * error si el conversor no pudo) y un contador por tipo de entrada de los
+ * valores que no son de ese tipo (los que darían NumberFormatException en
+ * toInt y compañía). Están apagadas por defecto: cada Cliente toma las
+ * métricas activas al crearse y, si no hay, no mide nada.
+ */
+final class MetricasConversion {
+    private static final TipoDato[] TIPOS = TipoDato.values();
+    private static volatile MetricasConversion activas;
+    // Bytes escritos por cada hilo, estén o no activas las métricas: el
+    // evento de Escritura de JFR resta dos lecturas alrededor de Salida.vaciar
+    private static final ThreadLocal<long[]> ESCRITOS_HILO = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Contador[] invalidos = new Contador[TIPOS.length];
+    private final Histograma[] pares = new Histograma[TIPOS.length * TIPOS.length];
+    // Bytes que las Entradas y Salidas con buffer leyeron y escribieron
+    final Contador bytesEntrada = new Contador();
+    final Contador bytesSalida = new Contador();
+    // Profundidad de las colas: bloques de ConversionParalela en curso,
+    // sesiones abiertas del servidor y los anillos del convertidor
+    final Contador bloquesEnCurso = new Contador();
+    final Contador sesiones = new Contador();
+    private volatile MemoriaCompartida memoria;
+
+    private MetricasConversion() {
+        for (TipoDato de : TIPOS) {
+            invalidos[de.ordinal()] = new Contador();
+            for (TipoDato a : TIPOS) {
+                if (de.permite(a)) {
+                    pares[de.ordinal() * TIPOS.length + a.ordinal()] = new Histograma();
+                }
+            }
+        }
+    }
+
+    /**
+     * Enciende las métricas para los Clientes que se creen desde ahora.
+     */
+    static synchronized MetricasConversion habilitar() {
+        if (activas == null) {
+            activas = new MetricasConversion();
+        }
+        return activas;
+    }
+
+    /**
+     * Métricas encendidas, o null si nadie las habilitó.
+     */
+    static MetricasConversion activas() {
+        return activas;
+    }
+
+    Contador invalidos(TipoDato de) {
+        return invalidos[de.ordinal()];
+    }
+
+    /**
+     * Cuenta bytes leídos por una Entrada si hay métricas activas. Se llama
+     * por bloque (al rellenar un buffer), no por valor.
+     */
+    static void leidos(long bytes) {
+        MetricasConversion m = activas;
+        if (m != null) {
+            m.bytesEntrada.sumar(bytes);
+        }
+    }
+
+    /**
+     * Cuenta bytes enviados a su destino por una Salida si hay métricas activas.
+     */
+    static void escritos(long bytes) {
+        ESCRITOS_HILO.get()[0] += bytes;
+        MetricasConversion m = activas;
+        if (m != null) {
+            m.bytesSalida.sumar(bytes);
+        }
+    }
+
+    /**
+     * Cuenta bloques de ConversionParalela que entran (1) o salen (-1) de la
+     * ventana en curso, si hay métricas activas.
+     */
+    static void bloquesEnCurso(int cambio) {
+        MetricasConversion m = activas;
+        if (m != null) {
+            m.bloquesEnCurso.sumar(cambio);
+        }
+    }
+
+    /**
+     * Cuenta sesiones del servidor que se abren (1) o se cierran (-1), si hay
+     * métricas activas.
+     */
+    static void sesiones(int cambio) {
+        MetricasConversion m = activas;
+        if (m != null) {
+            m.sesiones.sumar(cambio);
+        }
+    }
+
+    /**
+     * Publica los bytes pendientes de los anillos del convertidor, si hay
+     * métricas activas.
+     */
+    static void observar(MemoriaCompartida memoria) {
+        MetricasConversion m = activas;
+        if (m != null) {
+            m.memoria = memoria;
+        }
+    }
+
+    /**
+     * Bytes pendientes en el anillo de peticiones (o en el de respuestas), o
+     * 0 si este proceso no es un convertidor de memoria compartida.
+     */
+    long anillo(boolean peticiones) {
+        MemoriaCompartida m = memoria;
+        if (m == null) {
+            return 0;
+        }
+        return (peticiones ? m.peticiones : m.respuestas).ocupados();
+    }
+
+    /**
+     * Total de bytes que las Salidas escribieron desde el hilo actual.
+     */
+    static long escritosHilo() {
+        return ESCRITOS_HILO.get()[0];
+    }
+
+    /**
+     * Histograma del par, o null si la conversión no está permitida.
+     */
+    Histograma par(TipoDato de, TipoDato a) {
+        return pares[de.ordinal() * TIPOS.length + a.ordinal()];
+    }
+
+    /**
+     * Registra el MBean de estas métricas en el MBeanServer de la plataforma.
+     */
+    void registrarMBean() {
+        try {
+            ConversionesMBean mbean = new ConversionesMBean(this);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, ConversionesMBean.NOMBRE);
+            mbean.muestrear();
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudo registrar el MBean de conversiones", e);
+        }
+    }
+}
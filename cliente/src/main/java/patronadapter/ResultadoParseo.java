@@ -0,0 +1,25 @@
+package patronadapter;
+
+/**
+ * Resultado reutilizable de los métodos intentar* de AdaptadorEntrada.
+ * Guarda el valor primitivo en sus bits para no crear objetos por cada valor.
+ */
+class ResultadoParseo {
+    private long bits;
+
+    void ponerInt(int valor) { bits = valor; }
+
+    void ponerFloat(float valor) { bits = Float.floatToRawIntBits(valor); }
+
+    void ponerDouble(double valor) { bits = Double.doubleToRawLongBits(valor); }
+
+    void ponerBoolean(boolean valor) { bits = valor ? 1 : 0; }
+
+    int entero() { return (int) bits; }
+
+    float flotante() { return Float.intBitsToFloat((int) bits); }
+
+    double doble() { return Double.longBitsToDouble(bits); }
+
+    boolean booleano() { return bits != 0; }
+}
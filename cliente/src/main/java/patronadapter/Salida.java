@@ -0,0 +1,57 @@
+package patronadapter;
+
+interface Salida {
+    void mostrarString(String dato);
+    void mostrarBoolean(boolean dato);
+    void mostrarInt(int dato);
+    void mostrarFloat(float dato);
+    void mostrarDouble(double dato);
+
+    /**
+     * Métodos en bloque: muestran longitud valores de datos a partir de desde.
+     * Por defecto llaman al método de un valor para cada uno.
+     */
+    default void mostrarStrings(String[] datos, int desde, int longitud) {
+        for (int i = desde; i < desde + longitud; i++) {
+            mostrarString(datos[i]);
+        }
+    }
+
+    default void mostrarBooleans(boolean[] datos, int desde, int longitud) {
+        for (int i = desde; i < desde + longitud; i++) {
+            mostrarBoolean(datos[i]);
+        }
+    }
+
+    default void mostrarInts(int[] datos, int desde, int longitud) {
+        for (int i = desde; i < desde + longitud; i++) {
+            mostrarInt(datos[i]);
+        }
+    }
+
+    default void mostrarFloats(float[] datos, int desde, int longitud) {
+        for (int i = desde; i < desde + longitud; i++) {
+            mostrarFloat(datos[i]);
+        }
+    }
+
+    default void mostrarDoubles(double[] datos, int desde, int longitud) {
+        for (int i = desde; i < desde + longitud; i++) {
+            mostrarDouble(datos[i]);
+        }
+    }
+
+    /**
+     * Envía al destino lo que la Salida tenga acumulado.
+     * Las implementaciones sin buffer no necesitan hacer nada.
+     */
+    default void vaciar() {
+    }
+
+    /**
+     * Termina de usar la Salida; por defecto solo vacía lo pendiente.
+     */
+    default void cerrar() {
+        vaciar();
+    }
+}
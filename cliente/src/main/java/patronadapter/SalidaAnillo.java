@@ -0,0 +1,37 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SalidaBuffer que publica lo acumulado en el anillo de respuestas.
+ * Al cerrar, marca el anillo como terminado.
+ */
+class SalidaAnillo extends SalidaBuffer {
+    private final AnilloBytes anillo;
+
+    SalidaAnillo(AnilloBytes anillo) {
+        super(ByteBuffer.allocate(64 << 10), StandardCharsets.UTF_8);
+        this.anillo = anillo;
+    }
+
+    @Override
+    protected void hacerLugar(int bytes) {
+        vaciar();
+    }
+
+    @Override
+    public void vaciar() {
+        buffer.flip();
+        int bytes = buffer.remaining();
+        anillo.escribir(buffer);
+        MetricasConversion.escritos(bytes);
+        buffer.clear();
+    }
+
+    @Override
+    public void cerrar() {
+        vaciar();
+        anillo.cerrar();
+    }
+}
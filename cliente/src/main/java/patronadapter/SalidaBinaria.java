@@ -0,0 +1,154 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Salida que escribe cada valor en FormatoBinario, acumulando en un
+ * ByteBuffer y enviándolo al canal en bloques grandes.
+ */
+class SalidaBinaria implements Salida {
+    static final int TAMANO_BUFFER = 64 << 10;
+
+    private final WritableByteChannel canal;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANO_BUFFER);
+
+    SalidaBinaria(WritableByteChannel canal) {
+        this.canal = canal;
+    }
+
+    /**
+     * Salida sobre un archivo nuevo o truncado.
+     */
+    static SalidaBinaria crear(Path archivo) {
+        try {
+            return new SalidaBinaria(FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void mostrarString(String dato) {
+        byte[] bytes = String.valueOf(dato).getBytes(StandardCharsets.UTF_8);
+        lugar(5).put(FormatoBinario.STRING).putInt(bytes.length);
+        if (bytes.length <= buffer.remaining()) {
+            buffer.put(bytes);
+        } else {
+            vaciar();
+            escribir(ByteBuffer.wrap(bytes));
+        }
+    }
+
+    @Override
+    public void mostrarBoolean(boolean dato) {
+        lugar(2).put(FormatoBinario.BOOLEAN).put((byte) (dato ? 1 : 0));
+    }
+
+    @Override
+    public void mostrarInt(int dato) {
+        lugar(5).put(FormatoBinario.INT).putInt(dato);
+    }
+
+    @Override
+    public void mostrarFloat(float dato) {
+        lugar(5).put(FormatoBinario.FLOAT).putFloat(dato);
+    }
+
+    @Override
+    public void mostrarDouble(double dato) {
+        lugar(9).put(FormatoBinario.DOUBLE).putDouble(dato);
+    }
+
+    // Métodos en bloque: se llenan tramos enteros del buffer sin revisar el
+    // espacio en cada valor
+
+    @Override
+    public void mostrarBooleans(boolean[] datos, int desde, int longitud) {
+        int fin = desde + longitud;
+        while (desde < fin) {
+            int n = Math.min(fin - desde, lugar(2).remaining() / 2);
+            for (int i = desde; i < desde + n; i++) {
+                buffer.put(FormatoBinario.BOOLEAN).put((byte) (datos[i] ? 1 : 0));
+            }
+            desde += n;
+        }
+    }
+
+    @Override
+    public void mostrarInts(int[] datos, int desde, int longitud) {
+        int fin = desde + longitud;
+        while (desde < fin) {
+            int n = Math.min(fin - desde, lugar(5).remaining() / 5);
+            for (int i = desde; i < desde + n; i++) {
+                buffer.put(FormatoBinario.INT).putInt(datos[i]);
+            }
+            desde += n;
+        }
+    }
+
+    @Override
+    public void mostrarFloats(float[] datos, int desde, int longitud) {
+        int fin = desde + longitud;
+        while (desde < fin) {
+            int n = Math.min(fin - desde, lugar(5).remaining() / 5);
+            for (int i = desde; i < desde + n; i++) {
+                buffer.put(FormatoBinario.FLOAT).putFloat(datos[i]);
+            }
+            desde += n;
+        }
+    }
+
+    @Override
+    public void mostrarDoubles(double[] datos, int desde, int longitud) {
+        int fin = desde + longitud;
+        while (desde < fin) {
+            int n = Math.min(fin - desde, lugar(9).remaining() / 9);
+            for (int i = desde; i < desde + n; i++) {
+                buffer.put(FormatoBinario.DOUBLE).putDouble(datos[i]);
+            }
+            desde += n;
+        }
+    }
+
+    @Override
+    public void vaciar() {
+        buffer.flip();
+        escribir(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void cerrar() {
+        vaciar();
+        try {
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer lugar(int bytes) {
+        if (buffer.remaining() < bytes) {
+            vaciar();
+        }
+        return buffer;
+    }
+
+    private void escribir(ByteBuffer datos) {
+        try {
+            while (datos.hasRemaining()) {
+                MetricasConversion.escritos(canal.write(datos));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Salida de alto rendimiento que escribe etiquetas y dígitos directamente en
+ * un ByteBuffer reutilizable, con el mismo formato byte a byte que ConsoleSalida.
+ * Las subclases deciden qué hacer cuando el buffer se llena.
+ */
+abstract class SalidaBuffer implements Salida {
+    private static final byte[] STRING = "String: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BOOLEAN = "Boolean: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INT = "Int: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FLOAT = "Float: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DOUBLE = "Double: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    protected ByteBuffer buffer;
+    private final Charset charset;
+    private final byte[] finLinea;
+    private final AdaptadorSalida formato = new AdaptadorSalidaRapido();
+    // Dígitos de un número cuando el buffer es directo y no tiene arreglo
+    private final byte[] digitos = new byte[EscritorDecimal.MAXIMO_DOUBLE];
+
+    protected SalidaBuffer(ByteBuffer buffer, Charset charset) {
+        this.buffer = buffer;
+        this.charset = charset;
+        this.finLinea = System.lineSeparator().getBytes(charset);
+    }
+
+    /**
+     * Deja al menos 'bytes' bytes libres en el buffer (nunca más que su capacidad).
+     */
+    protected abstract void hacerLugar(int bytes);
+
+    @Override
+    public void mostrarString(String dato) {
+        escribir(STRING);
+        escribirTexto(String.valueOf(dato));
+        escribir(finLinea);
+    }
+
+    @Override
+    public void mostrarBoolean(boolean dato) {
+        escribir(BOOLEAN);
+        escribir(dato ? TRUE : FALSE);
+        escribir(finLinea);
+    }
+
+    @Override
+    public void mostrarInt(int dato) {
+        escribir(INT);
+        escribirInt(dato);
+        escribir(finLinea);
+    }
+
+    @Override
+    public void mostrarFloat(float dato) {
+        escribir(FLOAT);
+        escribirFloat(dato);
+        escribir(finLinea);
+    }
+
+    @Override
+    public void mostrarDouble(double dato) {
+        escribir(DOUBLE);
+        escribirDouble(dato);
+        escribir(finLinea);
+    }
+
+    // Métodos en bloque: un solo despacho por bloque y el lugar para etiqueta,
+    // valor y fin de línea se reserva una vez por valor
+
+    @Override
+    public void mostrarStrings(String[] datos, int desde, int longitud) {
+        for (int i = desde; i < desde + longitud; i++) {
+            escribir(STRING);
+            escribirTexto(String.valueOf(datos[i]));
+            escribir(finLinea);
+        }
+    }
+
+    @Override
+    public void mostrarBooleans(boolean[] datos, int desde, int longitud) {
+        int maximo = BOOLEAN.length + FALSE.length + finLinea.length;
+        for (int i = desde; i < desde + longitud; i++) {
+            asegurar(maximo);
+            buffer.put(BOOLEAN).put(datos[i] ? TRUE : FALSE).put(finLinea);
+        }
+    }
+
+    @Override
+    public void mostrarInts(int[] datos, int desde, int longitud) {
+        int maximo = INT.length + EscritorEntero.MAXIMO_INT + finLinea.length;
+        for (int i = desde; i < desde + longitud; i++) {
+            asegurar(maximo);
+            buffer.put(INT);
+            escribirInt(datos[i]);
+            buffer.put(finLinea);
+        }
+    }
+
+    @Override
+    public void mostrarFloats(float[] datos, int desde, int longitud) {
+        int maximo = FLOAT.length + EscritorDecimal.MAXIMO_FLOAT + finLinea.length;
+        for (int i = desde; i < desde + longitud; i++) {
+            asegurar(maximo);
+            buffer.put(FLOAT);
+            escribirFloat(datos[i]);
+            buffer.put(finLinea);
+        }
+    }
+
+    @Override
+    public void mostrarDoubles(double[] datos, int desde, int longitud) {
+        int maximo = DOUBLE.length + EscritorDecimal.MAXIMO_DOUBLE + finLinea.length;
+        for (int i = desde; i < desde + longitud; i++) {
+            asegurar(maximo);
+            buffer.put(DOUBLE);
+            escribirDouble(datos[i]);
+            buffer.put(finLinea);
+        }
+    }
+
+    private void asegurar(int bytes) {
+        if (buffer.remaining() < bytes) {
+            hacerLugar(bytes);
+        }
+    }
+
+    // Copia por tramos, así sirve también para datos más grandes que el buffer
+    private void escribir(byte[] bytes) {
+        int desde = 0;
+        while (desde < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                hacerLugar(1);
+            }
+            int n = Math.min(buffer.remaining(), bytes.length - desde);
+            buffer.put(bytes, desde, n);
+            desde += n;
+        }
+    }
+
+    // Los dígitos van directo al arreglo del buffer si lo tiene, sin pasar por String
+    private void escribirInt(int valor) {
+        asegurar(EscritorEntero.MAXIMO_INT);
+        if (buffer.hasArray()) {
+            int desde = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + formato.escribirInt(valor, buffer.array(), desde) - desde);
+        } else {
+            buffer.put(digitos, 0, formato.escribirInt(valor, digitos, 0));
+        }
+    }
+
+    private void escribirFloat(float valor) {
+        asegurar(EscritorDecimal.MAXIMO_FLOAT);
+        if (buffer.hasArray()) {
+            int desde = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + formato.escribirFloat(valor, buffer.array(), desde) - desde);
+        } else {
+            buffer.put(digitos, 0, formato.escribirFloat(valor, digitos, 0));
+        }
+    }
+
+    private void escribirDouble(double valor) {
+        asegurar(EscritorDecimal.MAXIMO_DOUBLE);
+        if (buffer.hasArray()) {
+            int desde = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + formato.escribirDouble(valor, buffer.array(), desde) - desde);
+        } else {
+            buffer.put(digitos, 0, formato.escribirDouble(valor, digitos, 0));
+        }
+    }
+
+    private void escribirAscii(String texto) {
+        int n = texto.length();
+        asegurar(n);
+        for (int i = 0; i < n; i++) {
+            buffer.put((byte) texto.charAt(i));
+        }
+    }
+
+    private void escribirTexto(String texto) {
+        int n = texto.length();
+        if (n > buffer.capacity()) {
+            escribir(texto.getBytes(charset));
+            return;
+        }
+        for (int i = 0; i < n; i++) {
+            if (texto.charAt(i) >= 0x80) {
+                escribir(texto.getBytes(charset));
+                return;
+            }
+        }
+        escribirAscii(texto);
+    }
+}
@@ -0,0 +1,69 @@
+package patronadapter;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * SalidaBuffer sobre un ByteBuffer directo que se vuelca a un canal en bloques
+ * grandes: al llenarse el buffer o al llamar a vaciar()/cerrar().
+ */
+class SalidaCanal extends SalidaBuffer {
+    static final int TAMANO_BUFFER = 1 << 20;
+
+    private final WritableByteChannel canal;
+    // Sólo la Salida de consola comparte destino con System.out
+    private final boolean consola;
+
+    SalidaCanal(WritableByteChannel canal, Charset charset) {
+        this(canal, charset, TAMANO_BUFFER);
+    }
+
+    SalidaCanal(WritableByteChannel canal, Charset charset, int tamano) {
+        this(canal, charset, tamano, false);
+    }
+
+    private SalidaCanal(WritableByteChannel canal, Charset charset, int tamano, boolean consola) {
+        super(ByteBuffer.allocateDirect(tamano), charset);
+        this.canal = canal;
+        this.consola = consola;
+    }
+
+    /**
+     * Salida de consola sobre el canal de System.out, con su mismo charset
+     * (PrintStream.charset() es de JDK 18; el proyecto pide JDK 21).
+     */
+    static SalidaCanal consola() {
+        return new SalidaCanal(new FileOutputStream(FileDescriptor.out).getChannel(), System.out.charset(),
+            TAMANO_BUFFER, true);
+    }
+
+    @Override
+    protected void hacerLugar(int bytes) {
+        vaciar();
+    }
+
+    @Override
+    public void vaciar() {
+        // Lo que ya se haya impreso por System.out (mensajes) va primero; en
+        // sockets y HTTP no se toca, para no tomar su lock en cada sesión
+        if (consola) {
+            System.out.flush();
+        }
+        buffer.flip();
+        try {
+            // Se cuenta lo que cada write entregó: si uno falla, lo anterior ya salió
+            while (buffer.hasRemaining()) {
+                MetricasConversion.escritos(canal.write(buffer));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+}
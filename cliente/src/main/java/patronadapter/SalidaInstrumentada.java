@@ -0,0 +1,113 @@
+package patronadapter;
+
+/**
+ * Decorador de Salida que mide cada método, incluidos vaciar y cerrar, que
+ * son los que escriben en el destino en las Salidas con buffer.
+ */
+class SalidaInstrumentada implements Salida {
+    private final Salida salida;
+    private final Medidor mostrarString;
+    private final Medidor mostrarBoolean;
+    private final Medidor mostrarInt;
+    private final Medidor mostrarFloat;
+    private final Medidor mostrarDouble;
+    private final Medidor mostrarStrings;
+    private final Medidor mostrarBooleans;
+    private final Medidor mostrarInts;
+    private final Medidor mostrarFloats;
+    private final Medidor mostrarDoubles;
+    private final Medidor vaciar;
+    private final Medidor cerrar;
+
+    SalidaInstrumentada(Salida salida, Metricas metricas) {
+        this.salida = salida;
+        this.mostrarString = metricas.medidor("Salida.mostrarString");
+        this.mostrarBoolean = metricas.medidor("Salida.mostrarBoolean");
+        this.mostrarInt = metricas.medidor("Salida.mostrarInt");
+        this.mostrarFloat = metricas.medidor("Salida.mostrarFloat");
+        this.mostrarDouble = metricas.medidor("Salida.mostrarDouble");
+        this.mostrarStrings = metricas.medidor("Salida.mostrarStrings");
+        this.mostrarBooleans = metricas.medidor("Salida.mostrarBooleans");
+        this.mostrarInts = metricas.medidor("Salida.mostrarInts");
+        this.mostrarFloats = metricas.medidor("Salida.mostrarFloats");
+        this.mostrarDoubles = metricas.medidor("Salida.mostrarDoubles");
+        this.vaciar = metricas.medidor("Salida.vaciar");
+        this.cerrar = metricas.medidor("Salida.cerrar");
+    }
+
+    @Override
+    public void mostrarString(String dato) {
+        ejecutar(mostrarString, () -> salida.mostrarString(dato));
+    }
+
+    @Override
+    public void mostrarBoolean(boolean dato) {
+        ejecutar(mostrarBoolean, () -> salida.mostrarBoolean(dato));
+    }
+
+    @Override
+    public void mostrarInt(int dato) {
+        ejecutar(mostrarInt, () -> salida.mostrarInt(dato));
+    }
+
+    @Override
+    public void mostrarFloat(float dato) {
+        ejecutar(mostrarFloat, () -> salida.mostrarFloat(dato));
+    }
+
+    @Override
+    public void mostrarDouble(double dato) {
+        ejecutar(mostrarDouble, () -> salida.mostrarDouble(dato));
+    }
+
+    @Override
+    public void mostrarStrings(String[] datos, int desde, int longitud) {
+        ejecutar(mostrarStrings, () -> salida.mostrarStrings(datos, desde, longitud));
+    }
+
+    @Override
+    public void mostrarBooleans(boolean[] datos, int desde, int longitud) {
+        ejecutar(mostrarBooleans, () -> salida.mostrarBooleans(datos, desde, longitud));
+    }
+
+    @Override
+    public void mostrarInts(int[] datos, int desde, int longitud) {
+        ejecutar(mostrarInts, () -> salida.mostrarInts(datos, desde, longitud));
+    }
+
+    @Override
+    public void mostrarFloats(float[] datos, int desde, int longitud) {
+        ejecutar(mostrarFloats, () -> salida.mostrarFloats(datos, desde, longitud));
+    }
+
+    @Override
+    public void mostrarDoubles(double[] datos, int desde, int longitud) {
+        ejecutar(mostrarDoubles, () -> salida.mostrarDoubles(datos, desde, longitud));
+    }
+
+    @Override
+    public void vaciar() {
+        ejecutar(vaciar, () -> salida.vaciar());
+    }
+
+    @Override
+    public void cerrar() {
+        ejecutar(cerrar, () -> salida.cerrar());
+    }
+
+    // Una llamada medida: tiempo con el Medidor del método y, si lanza una
+    // excepción, un error. Una variante por tipo de resultado, sin encajonar
+    // primitivos; los float pasan por medirDouble, que los conserva exactos.
+
+    private static void ejecutar(Medidor medidor, Runnable llamada) {
+        long inicio = medidor.iniciar();
+        try {
+            llamada.run();
+        } catch (RuntimeException e) {
+            medidor.error();
+            throw e;
+        } finally {
+            medidor.terminar(inicio);
+        }
+    }
+}
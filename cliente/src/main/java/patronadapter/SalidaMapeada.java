@@ -0,0 +1,84 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * SalidaBuffer que escribe directamente sobre ventanas mapeadas del archivo de
+ * salida. Al cerrar, el archivo se recorta al tamaño realmente escrito.
+ * Los bytes se cuentan como escritos al pasar a la ventana siguiente (con su
+ * propio evento de Escritura), en vaciar() y al cerrar.
+ */
+class SalidaMapeada extends SalidaBuffer {
+    static final int VENTANA = 64 << 20;
+
+    private final FileChannel canal;
+    private long base;
+    // Bytes del archivo ya contados en MetricasConversion.escritos
+    private long contados;
+
+    SalidaMapeada(Path archivo) {
+        super(ByteBuffer.allocate(0), Charset.defaultCharset());
+        try {
+            this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, VENTANA);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void hacerLugar(int bytes) {
+        // Cambiar de ventana es lo que escribe esta Salida: en lote, Cliente
+        // sólo vacía al final, así que el evento va aquí
+        EventoEscritura evento = new EventoEscritura();
+        evento.begin();
+        long antes = contados;
+        boolean escrita = false;
+        try {
+            contar();
+            base += buffer.position();
+            buffer = canal.map(FileChannel.MapMode.READ_WRITE, base, VENTANA);
+            escrita = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (evento.shouldCommit()) {
+                evento.escrita = escrita;
+                evento.bytes = contados - antes;
+                evento.commit();
+            }
+        }
+    }
+
+    /**
+     * Los bytes ya están en el mapeo del archivo; sólo se cuentan.
+     */
+    @Override
+    public void vaciar() {
+        contar();
+    }
+
+    private void contar() {
+        long escritos = base + buffer.position();
+        MetricasConversion.escritos(escritos - contados);
+        contados = escritos;
+    }
+
+    @Override
+    public void cerrar() {
+        contar();
+        try {
+            canal.truncate(base + buffer.position());
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * SalidaBuffer en memoria que crece según haga falta.
+ * resultado() devuelve los bytes escritos listos para leer.
+ */
+class SalidaMemoria extends SalidaBuffer {
+    SalidaMemoria(int capacidadInicial, Charset charset) {
+        super(ByteBuffer.allocate(capacidadInicial), charset);
+    }
+
+    /**
+     * Capacidad pedida en long, acotada al mayor arreglo que se puede crear.
+     */
+    static int capacidad(long bytes) {
+        return (int) Math.min(bytes, Integer.MAX_VALUE - 8);
+    }
+
+    @Override
+    protected void hacerLugar(int bytes) {
+        ByteBuffer mayor = ByteBuffer.allocate(capacidad(Math.max(2L * buffer.capacity(), (long) buffer.position() + bytes)));
+        buffer.flip();
+        mayor.put(buffer);
+        buffer = mayor;
+    }
+
+    ByteBuffer resultado() {
+        return buffer.duplicate().flip();
+    }
+}
@@ -0,0 +1,226 @@
+package patronadapter;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.BindException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor de conversiones en la interfaz de loopback o en un socket de
+ * dominio Unix. Cada conexión tiene su propio par Entrada/Salida
+ * (SocketFactory) y su sesión de Cliente corre en un hilo virtual, así que las
+ * sesiones inactivas no ocupan un hilo de plataforma.
+ * En modo peticiones cada línea es una conversión completa (ver
+ * Cliente.ejecutarPeticiones) y las respuestas se agrupan en escrituras grandes.
+ */
+class ServidorConversion {
+    static final int TAMANO_LOTE = 64 << 10;
+
+    private final SocketAddress direccion;
+    private final boolean peticiones;
+    private final AtomicInteger sesiones = new AtomicInteger();
+
+    ServidorConversion(SocketAddress direccion, boolean peticiones) {
+        this.direccion = direccion;
+        this.peticiones = peticiones;
+    }
+
+    /**
+     * Un número es un puerto TCP en loopback; cualquier otro texto es la ruta
+     * de un socket de dominio Unix.
+     */
+    static SocketAddress direccion(String texto) {
+        if (!texto.isEmpty() && texto.chars().allMatch(Character::isDigit)) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(texto));
+        }
+        return UnixDomainSocketAddress.of(texto);
+    }
+
+    /**
+     * Borra el socket que haya dejado una ejecución anterior en la ruta. Si
+     * en la ruta hay otra cosa (por ejemplo, un archivo, si el puerto se
+     * escribió mal, o una FIFO), no la toca y falla. Tampoco borra el socket
+     * de un servidor vivo: sólo uno que rechaza la conexión.
+     */
+    private static void quitarSocketViejo(Path ruta) throws IOException {
+        BasicFileAttributes atributos;
+        try {
+            atributos = Files.readAttributes(ruta, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        if (!atributos.isOther() || !esSocket(ruta)) {
+            throw new BindException("Dirección en uso: " + ruta + " existe y no es un socket");
+        }
+        try (SocketChannel prueba = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            prueba.connect(UnixDomainSocketAddress.of(ruta));
+            throw new BindException("Dirección en uso: otro servidor escucha en " + ruta);
+        } catch (ConnectException e) {
+            // Nadie escucha: es el socket de una ejecución que ya terminó
+        }
+        Files.delete(ruta);
+    }
+
+    /**
+     * isOther() también vale para FIFOs y dispositivos; el modo de la vista
+     * "unix" distingue los sockets. Sin esa vista basta con isOther().
+     */
+    private static boolean esSocket(Path ruta) throws IOException {
+        try {
+            int modo = (Integer) Files.getAttribute(ruta, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+            return (modo & 0170000) == 0140000;
+        } catch (UnsupportedOperationException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Acepta conexiones hasta que se detenga el proceso.
+     */
+    void ejecutar() throws IOException {
+        boolean unix = direccion instanceof UnixDomainSocketAddress;
+        if (unix) {
+            // bind falla si el archivo del socket ya existe
+            Path ruta = ((UnixDomainSocketAddress) direccion).getPath();
+            quitarSocketViejo(ruta);
+            ruta.toFile().deleteOnExit();
+        }
+        try (ServerSocketChannel servidor = unix
+                 ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                 : ServerSocketChannel.open();
+             ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            servidor.bind(direccion, 1024);
+            System.out.println("Servidor de conversiones en " + servidor.getLocalAddress()
+                + (peticiones ? " (peticiones por línea)" : ""));
+            iniciarMonitor();
+            while (true) {
+                SocketChannel canal = servidor.accept();
+                hilos.execute(() -> atender(canal));
+            }
+        }
+    }
+
+    private void atender(SocketChannel canal) {
+        sesiones.incrementAndGet();
+        MetricasConversion.sesiones(1);
+        // try cierra el canal antes del catch, y ahí ya no se puede pedir
+        Object remoto = remoto(canal);
+        try (canal) {
+            // Los mensajes son cortos y van uno por uno: sin Nagle no esperan al ACK
+            if (canal.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+                canal.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            }
+            if (peticiones) {
+                atenderPeticiones(canal, canal);
+            } else {
+                Cliente cliente = new Cliente(new SocketFactory(canal));
+                cliente.ejecutarSesion();
+            }
+        } catch (IOException e) {
+            informar(remoto, e);
+        } catch (UncheckedIOException e) {
+            informar(remoto, e.getCause());
+        } catch (RuntimeException e) {
+            informar(remoto, e);
+        } finally {
+            sesiones.decrementAndGet();
+            MetricasConversion.sesiones(-1);
+        }
+    }
+
+    /**
+     * Reporta en System.err el error que terminó una sesión, salvo que sólo
+     * sea el cliente cerrando la conexión a mitad de la sesión.
+     */
+    private static void informar(Object remoto, Exception e) {
+        if (e instanceof IOException io && esDesconexion(io)) {
+            return;
+        }
+        System.err.println("Error en la sesión con " + remoto + ": " + e);
+    }
+
+    /**
+     * Si la excepción sólo dice que el otro extremo se fue: canal cerrado, fin
+     * de los datos, o conexión reiniciada o cortada.
+     */
+    static boolean esDesconexion(IOException e) {
+        if (e instanceof ClosedChannelException || e instanceof EOFException || e instanceof SocketException) {
+            return true;
+        }
+        // SocketChannel informa el reset y el EPIPE como IOException a secas
+        String mensaje = e.getMessage();
+        return mensaje != null && (mensaje.contains("Connection reset") || mensaje.contains("Broken pipe"));
+    }
+
+    private static Object remoto(SocketChannel canal) {
+        try {
+            return canal.getRemoteAddress();
+        } catch (IOException e) {
+            return "(desconocida)";
+        }
+    }
+
+    /**
+     * Procesa las peticiones por lotes: convierte todas las líneas que ya
+     * llegaron y sólo envía las respuestas acumuladas cuando tiene que esperar
+     * más datos del canal (o cuando se llena el buffer de salida).
+     */
+    static void atenderPeticiones(ReadableByteChannel lectura, WritableByteChannel escritura) {
+        SalidaCanal salida = new SalidaCanal(escritura, StandardCharsets.UTF_8, TAMANO_LOTE);
+        EntradaCanal entrada = new EntradaCanal(lectura, null, StandardCharsets.UTF_8, TAMANO_LOTE) {
+            @Override
+            protected boolean rellenar() throws IOException {
+                salida.vaciar();
+                return super.rellenar();
+            }
+        };
+        new Cliente(entrada, salida).ejecutarPeticiones();
+    }
+
+    /**
+     * Muestra cada pocos segundos las sesiones abiertas y los hilos de plataforma.
+     */
+    private void iniciarMonitor() {
+        Thread monitor = new Thread(() -> {
+            int anterior = -1;
+            while (true) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                int actual = sesiones.get();
+                if (actual != anterior) {
+                    System.out.println("Sesiones abiertas: " + actual + ", hilos de plataforma: "
+                        + ManagementFactory.getThreadMXBean().getThreadCount());
+                    anterior = actual;
+                }
+            }
+        }, "monitor-sesiones");
+        monitor.setDaemon(true);
+        monitor.start();
+    }
+}
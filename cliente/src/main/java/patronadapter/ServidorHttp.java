@@ -0,0 +1,113 @@
+package patronadapter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Endpoint HTTP de conversiones con el HttpServer del JDK, en loopback y con
+ * un hilo virtual por petición:
+ *   GET  /convertir?de=int&a=double&valor=42  -> una línea con el resultado
+ *   POST /convertir?de=int&a=double           -> un valor por línea en el cuerpo,
+ *                                                un resultado por línea en la respuesta
+ * El POST se procesa en flujo (respuesta chunked) sin cargar el cuerpo completo.
+ * Los errores de conversión van en la respuesta con los mismos mensajes que la consola.
+ */
+class ServidorHttp {
+    static final int TAMANO_FLUJO = 64 << 10;
+
+    private final int puerto;
+
+    ServidorHttp(int puerto) {
+        this.puerto = puerto;
+    }
+
+    /**
+     * Inicia el servidor; sigue atendiendo hasta que se detenga el proceso.
+     */
+    HttpServer iniciar() throws IOException {
+        // Cabeceras y cuerpo se escriben por separado: sin Nagle no esperan al ACK retardado
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        HttpServer servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto), 1024);
+        servidor.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        servidor.createContext("/convertir", this::atender);
+        servidor.start();
+        System.out.println("Servidor HTTP de conversiones en http:/" + servidor.getAddress() + "/convertir");
+        return servidor;
+    }
+
+    private void atender(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            Map<String, String> parametros = parametros(intercambio.getRequestURI().getRawQuery());
+            String de = parametros.get("de");
+            String a = parametros.get("a");
+            intercambio.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            switch (intercambio.getRequestMethod()) {
+                case "GET" -> convertirValor(intercambio, de, a, parametros.get("valor"));
+                case "POST" -> convertirFlujo(intercambio, de, a);
+                default -> responder(intercambio, 405, "Método no permitido.");
+            }
+        }
+    }
+
+    private static void convertirValor(HttpExchange intercambio, String de, String a, String valor) throws IOException {
+        if (de == null || a == null || valor == null
+            || (de + a + valor).indexOf('\n') >= 0 || (de + a + valor).indexOf('\r') >= 0) {
+            responder(intercambio, 400, "Se esperan los parámetros de, a y valor (sin saltos de línea).");
+            return;
+        }
+        // Los tipos van tal cual al modo por lotes, sin armar una línea del
+        // protocolo de peticiones: un espacio en "de" no cambia la petición
+        SalidaMemoria salida = new SalidaMemoria(128, StandardCharsets.UTF_8);
+        new Cliente(new EntradaMemoria(valor), salida).ejecutarLote(de, a);
+        ByteBuffer cuerpo = salida.resultado();
+        intercambio.sendResponseHeaders(200, cuerpo.remaining());
+        intercambio.getResponseBody().write(cuerpo.array(), 0, cuerpo.remaining());
+    }
+
+    private static void convertirFlujo(HttpExchange intercambio, String de, String a) throws IOException {
+        if (de == null || a == null) {
+            responder(intercambio, 400, "Se esperan los parámetros de y a.");
+            return;
+        }
+        // Longitud 0: respuesta chunked, se envía a medida que se convierte
+        intercambio.sendResponseHeaders(200, 0);
+        EntradaCanal entrada = new EntradaCanal(Channels.newChannel(intercambio.getRequestBody()), null,
+            StandardCharsets.UTF_8, TAMANO_FLUJO);
+        SalidaCanal salida = new SalidaCanal(Channels.newChannel(intercambio.getResponseBody()),
+            StandardCharsets.UTF_8, TAMANO_FLUJO);
+        new Cliente(entrada, salida).ejecutarLote(de, a);
+    }
+
+    private static void responder(HttpExchange intercambio, int estado, String mensaje) throws IOException {
+        byte[] cuerpo = (mensaje + "\n").getBytes(StandardCharsets.UTF_8);
+        intercambio.sendResponseHeaders(estado, cuerpo.length);
+        intercambio.getResponseBody().write(cuerpo);
+    }
+
+    private static Map<String, String> parametros(String consulta) {
+        Map<String, String> parametros = new HashMap<>();
+        if (consulta == null) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            if (igual > 0) {
+                parametros.put(URLDecoder.decode(par.substring(0, igual), StandardCharsets.UTF_8),
+                    URLDecoder.decode(par.substring(igual + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parametros;
+    }
+}
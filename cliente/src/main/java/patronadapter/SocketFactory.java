@@ -0,0 +1,33 @@
+package patronadapter;
+
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Factory para una conexión por socket, TCP o de dominio Unix: la Entrada lee
+ * las líneas del socket y le envía los mensajes, y la Salida escribe los
+ * resultados en el mismo socket. Usa buffers directos pequeños para que cada
+ * sesión ocupe poca memoria.
+ */
+class SocketFactory implements IOFactory {
+    static final int TAMANO_SESION = 4 << 10;
+
+    private final SocketChannel canal;
+
+    SocketFactory(SocketChannel canal) {
+        this.canal = canal;
+    }
+
+    @Override
+    public Entrada crearEntrada() {
+        PrintStream eco = new PrintStream(Channels.newOutputStream(canal), false, StandardCharsets.UTF_8);
+        return new EntradaCanal(canal, eco, StandardCharsets.UTF_8, TAMANO_SESION);
+    }
+
+    @Override
+    public Salida crearSalida() {
+        return new SalidaCanal(canal, StandardCharsets.UTF_8, TAMANO_SESION);
+    }
+}
@@ -0,0 +1,95 @@
+package patronadapter;
+
+/**
+ * Tipos de dato que maneja el conversor.
+ * Cada tipo guarda una máscara de bits con los tipos a los que se puede convertir,
+ * de modo que validar una conversión es un único AND.
+ */
+enum TipoDato {
+    STRING("string"),
+    INT("int"),
+    FLOAT("float"),
+    DOUBLE("double"),
+    BOOLEAN("boolean");
+
+    private static final TipoDato[] VALORES = values();
+
+    // Conversiones permitidas entre tipos de datos
+    static {
+        STRING.permitir(STRING, INT, FLOAT, DOUBLE, BOOLEAN);
+        INT.permitir(INT, STRING, FLOAT, DOUBLE);
+        FLOAT.permitir(FLOAT, STRING, DOUBLE);
+        DOUBLE.permitir(DOUBLE, STRING, FLOAT);
+        BOOLEAN.permitir(BOOLEAN, STRING);
+    }
+
+    private final String nombre;
+    private int destinos;
+
+    TipoDato(String nombre) {
+        this.nombre = nombre;
+    }
+
+    private void permitir(TipoDato... tipos) {
+        for (TipoDato tipo : tipos) {
+            destinos |= tipo.bit();
+        }
+    }
+
+    /**
+     * Bit que representa a este tipo dentro de una máscara.
+     */
+    int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Verifica si este tipo puede convertirse al tipo indicado.
+     */
+    boolean permite(TipoDato destino) {
+        return (destinos & destino.bit()) != 0;
+    }
+
+    /**
+     * Nombre del tipo tal como lo escribe el usuario.
+     */
+    String nombre() {
+        return nombre;
+    }
+
+    /**
+     * Resuelve un nombre de tipo sin distinguir mayúsculas y sin crear objetos.
+     * Devuelve null si el nombre no corresponde a ningún tipo.
+     */
+    static TipoDato resolver(CharSequence texto) {
+        if (texto == null) {
+            return null;
+        }
+        return resolver(texto, 0, texto.length());
+    }
+
+    /**
+     * Igual que resolver(CharSequence), pero sobre el rango [desde, hasta) del texto.
+     */
+    static TipoDato resolver(CharSequence texto, int desde, int hasta) {
+        for (TipoDato tipo : VALORES) {
+            if (tipo.coincide(texto, desde, hasta)) {
+                return tipo;
+            }
+        }
+        return null;
+    }
+
+    private boolean coincide(CharSequence texto, int desde, int hasta) {
+        int n = nombre.length();
+        if (hasta - desde != n) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            if (Character.toLowerCase(texto.charAt(desde + i)) != nombre.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,78 @@
+package patronadapter;
+
+/**
+ * Valor ya leído que pasa por la conversión sin encajonarse: un primitivo en
+ * un ResultadoParseo o un texto (CharSequence con su rango), junto con su
+ * tipo. Es mutable y se reutiliza para cada valor.
+ */
+class Valor {
+    private final ResultadoParseo primitivo = new ResultadoParseo();
+    private TipoDato tipo;
+    private CharSequence texto;
+    private int desde;
+    private int longitud;
+
+    /**
+     * Marca el valor como un primitivo de tipo (borra el texto anterior) y
+     * devuelve el ResultadoParseo que guarda sus bits, para que lo llene un
+     * intentar* de AdaptadorEntrada o EntradaBinaria.leer.
+     */
+    ResultadoParseo primitivo(TipoDato tipo) {
+        this.tipo = tipo;
+        this.texto = null;
+        this.desde = 0;
+        this.longitud = 0;
+        return primitivo;
+    }
+
+    void ponerInt(int valor) { primitivo(TipoDato.INT).ponerInt(valor); }
+
+    void ponerFloat(float valor) { primitivo(TipoDato.FLOAT).ponerFloat(valor); }
+
+    void ponerDouble(double valor) { primitivo(TipoDato.DOUBLE).ponerDouble(valor); }
+
+    void ponerBoolean(boolean valor) { primitivo(TipoDato.BOOLEAN).ponerBoolean(valor); }
+
+    void ponerTexto(CharSequence valor) {
+        ponerTexto(valor, 0, valor == null ? 0 : valor.length());
+    }
+
+    /**
+     * Guarda el rango [desde, desde + longitud) de valor sin copiarlo.
+     */
+    void ponerTexto(CharSequence valor, int desde, int longitud) {
+        this.tipo = TipoDato.STRING;
+        this.texto = valor;
+        this.desde = desde;
+        this.longitud = longitud;
+    }
+
+    TipoDato tipo() { return tipo; }
+
+    int entero() { return primitivo.entero(); }
+
+    float flotante() { return primitivo.flotante(); }
+
+    double doble() { return primitivo.doble(); }
+
+    boolean booleano() { return primitivo.booleano(); }
+
+    CharSequence texto() { return texto; }
+
+    int desde() { return desde; }
+
+    int longitud() { return longitud; }
+
+    /**
+     * El texto como String; sólo crea uno nuevo si es un rango parcial.
+     */
+    String cadena() {
+        if (texto == null) {
+            return null;
+        }
+        if (desde == 0 && longitud == texto.length() && texto instanceof String completo) {
+            return completo;
+        }
+        return texto.subSequence(desde, desde + longitud).toString();
+    }
+}
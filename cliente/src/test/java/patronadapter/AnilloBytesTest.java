@@ -0,0 +1,112 @@
+package patronadapter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * El anillo de un productor y un consumidor, con un hilo en cada extremo:
+ * pasan muchas veces su capacidad en trozos de tamaños variados (así el
+ * anillo da muchas vueltas y los trozos se parten en el borde) y el
+ * consumidor debe recibir los mismos bytes en el mismo orden. También que
+ * MemoriaCompartida.crear no pise archivos que no son suyos.
+ */
+class AnilloBytesTest {
+    private static final int CAPACIDAD = 4096;
+    private static final int TOTAL = 256 * CAPACIDAD + 123;
+
+    @TempDir
+    Path directorio;
+
+    @ParameterizedTest
+    @EnumSource(EsperaAnillo.class)
+    void productorYConsumidorEnHilosDistintos(EsperaAnillo espera) throws Exception {
+        byte[] datos = new byte[TOTAL];
+        new Random(42).nextBytes(datos);
+        MappedByteBuffer mapa;
+        try (FileChannel canal = FileChannel.open(directorio.resolve("anillo"), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, AnilloBytes.CABECERA + CAPACIDAD);
+        }
+        AnilloBytes productor = new AnilloBytes(mapa, 0, CAPACIDAD, espera);
+        AnilloBytes consumidor = new AnilloBytes(mapa, 0, CAPACIDAD, espera);
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread hilo = new Thread(() -> {
+            try {
+                Random tamanos = new Random(7);
+                int desde = 0;
+                while (desde < TOTAL) {
+                    int n = Math.min(1 + tamanos.nextInt(3 * CAPACIDAD / 2), TOTAL - desde);
+                    productor.escribir(ByteBuffer.wrap(datos, desde, n));
+                    desde += n;
+                }
+                productor.cerrar();
+            } catch (Throwable t) {
+                error.set(t);
+            }
+        }, "productor");
+
+        byte[] recibidos = assertTimeoutPreemptively(Duration.ofMinutes(1), () -> {
+            hilo.start();
+            ByteBuffer destino = ByteBuffer.allocate(TOTAL + 1);
+            Random tamanos = new Random(11);
+            while (true) {
+                int limite = Math.min(destino.capacity(), destino.position() + 1 + tamanos.nextInt(CAPACIDAD));
+                destino.limit(limite);
+                if (consumidor.leer(destino) < 0) {
+                    break;
+                }
+            }
+            hilo.join();
+            return Arrays.copyOf(destino.array(), destino.position());
+        });
+        if (error.get() != null) {
+            throw new AssertionError("falló el productor", error.get());
+        }
+        assertEquals(TOTAL, recibidos.length);
+        assertArrayEquals(datos, recibidos);
+        assertEquals(0, consumidor.ocupados());
+    }
+
+    @Test
+    void crearNoReemplazaUnArchivoDeOtroTamano() throws IOException {
+        Path archivo = directorio.resolve("ajeno");
+        byte[] contenido = "no es un anillo".getBytes(StandardCharsets.US_ASCII);
+        Files.write(archivo, contenido);
+        UncheckedIOException e = assertThrows(UncheckedIOException.class,
+            () -> MemoriaCompartida.crear(archivo, EsperaAnillo.ESTACIONAR));
+        assertEquals(FileAlreadyExistsException.class, e.getCause().getClass());
+        assertArrayEquals(contenido, Files.readAllBytes(archivo));
+    }
+
+    @Test
+    void crearReemplazaUnArchivoDeAnillo() throws IOException {
+        Path archivo = directorio.resolve("anillo");
+        MemoriaCompartida.crear(archivo, EsperaAnillo.ESTACIONAR).peticiones.escribir(ByteBuffer.wrap(new byte[10]));
+        long tamano = Files.size(archivo);
+        MemoriaCompartida nueva = MemoriaCompartida.crear(archivo, EsperaAnillo.ESTACIONAR);
+        assertEquals(tamano, Files.size(archivo));
+        assertEquals(0, nueva.peticiones.ocupados());
+    }
+}
@@ -0,0 +1,157 @@
+package patronadapter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Separación de líneas de EntradaLineas con un buffer de 4 bytes y un canal
+ * que entrega los bytes en los trozos indicados, así cada caso controla dónde
+ * cae el borde de una lectura: \r\n partido entre dos lecturas, \r solo,
+ * última línea sin salto y la decodificación en ISO-8859-1 y UTF-8.
+ */
+class EntradaLineasTest {
+
+    @Test
+    void crLfPartidoEntreLecturas() {
+        assertEquals(List.of("uno", "dos", "tres"), lineas(StandardCharsets.US_ASCII, "uno\r", "\ndos\r", "\ntres\r\n"));
+        // El \n llega solo en la última lectura
+        assertEquals(List.of("a"), lineas(StandardCharsets.US_ASCII, "a\r", "\n"));
+    }
+
+    @Test
+    void crSolo() {
+        assertEquals(List.of("a", "b", "c"), lineas(StandardCharsets.US_ASCII, "a\rb\rc"));
+        // \r al final de una lectura y la siguiente no empieza con \n
+        assertEquals(List.of("a", "b", "c"), lineas(StandardCharsets.US_ASCII, "a\r", "b\r", "c"));
+        assertEquals(List.of("a", "", "b"), lineas(StandardCharsets.US_ASCII, "a\r", "\r", "b"));
+        // \r\r\n son una línea vacía y no dos
+        assertEquals(List.of("a", "", "b"), lineas(StandardCharsets.US_ASCII, "a\r\r", "\nb"));
+    }
+
+    @Test
+    void ultimaLineaSinSalto() {
+        assertEquals(List.of("x", "yz"), lineas(StandardCharsets.US_ASCII, "x\ny", "z"));
+        assertEquals(List.of("x"), lineas(StandardCharsets.US_ASCII, "x\r"));
+        assertEquals(List.of("", ""), lineas(StandardCharsets.US_ASCII, "\n\n"));
+        assertEquals(List.of(), lineas(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void lineaMasLargaQueElBuffer() {
+        String larga = "0123456789".repeat(10);
+        assertEquals(List.of(larga, "fin"),
+            lineas(StandardCharsets.US_ASCII, larga.substring(0, 37), larga.substring(37) + "\r", "\nfin"));
+    }
+
+    @Test
+    void latin1YUtf8() {
+        byte[] utf8 = "ñandú\r\n日本\n".getBytes(StandardCharsets.UTF_8);
+        // Los caracteres de varios bytes quedan partidos entre lecturas
+        List<byte[]> trozos = new ArrayList<>();
+        for (int i = 0; i < utf8.length; i += 3) {
+            trozos.add(Arrays.copyOfRange(utf8, i, Math.min(i + 3, utf8.length)));
+        }
+        assertEquals(List.of("ñandú", "日本"), lineas(StandardCharsets.UTF_8, trozos));
+        // En ISO-8859-1 cada byte es un carácter, sin decodificar
+        String comoLatin1 = new String(utf8, StandardCharsets.ISO_8859_1);
+        assertEquals(Arrays.asList(comoLatin1.split("\r\n|\n")), lineas(StandardCharsets.ISO_8859_1, trozos));
+        byte[] latin1 = "ñandú\n".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(List.of("ñandú"), lineas(StandardCharsets.ISO_8859_1, List.of(latin1)));
+    }
+
+    @Test
+    void ingresarIntsSeDetieneEnElPrimerInvalido() {
+        Entrada entrada = entrada(StandardCharsets.US_ASCII, trozos("1\r", "\n22\r", "\nx\n333\r", "4444"));
+        AdaptadorEntrada lector = new AdaptadorEntradaRapido();
+        int[] destino = new int[8];
+        assertEquals(~2, entrada.ingresarInts(destino, 1, 7, lector));
+        assertArrayEquals(new int[]{0, 1, 22, 0, 0, 0, 0, 0}, destino);
+        assertEquals(2, entrada.ingresarInts(destino, 0, 7, lector));
+        assertArrayEquals(new int[]{333, 4444, 22, 0, 0, 0, 0, 0}, destino);
+        assertEquals(0, entrada.ingresarInts(destino, 0, 7, lector));
+    }
+
+    @Test
+    void ingresarIntsNoConsumeMasDeLoPedido() {
+        Entrada entrada = entrada(StandardCharsets.US_ASCII, trozos("1\n2\n3\n"));
+        int[] destino = new int[2];
+        assertEquals(2, entrada.ingresarInts(destino, 0, 2, new AdaptadorEntradaRapido()));
+        assertEquals("3", entrada.siguienteValor());
+        assertNull(entrada.siguienteValor());
+    }
+
+    private static List<String> lineas(Charset charset, String... trozos) {
+        return lineas(charset, trozos(trozos));
+    }
+
+    private static List<String> lineas(Charset charset, List<byte[]> trozos) {
+        Entrada entrada = entrada(charset, trozos);
+        List<String> lineas = new ArrayList<>();
+        String linea;
+        while ((linea = entrada.siguienteValor()) != null) {
+            lineas.add(linea);
+        }
+        return lineas;
+    }
+
+    private static List<byte[]> trozos(String... trozos) {
+        List<byte[]> bytes = new ArrayList<>();
+        for (String trozo : trozos) {
+            bytes.add(trozo.getBytes(StandardCharsets.US_ASCII));
+        }
+        return bytes;
+    }
+
+    private static Entrada entrada(Charset charset, List<byte[]> trozos) {
+        return new EntradaCanal(new Trozos(trozos), null, charset, 4);
+    }
+
+    /**
+     * Canal que entrega cada trozo en una lectura aparte (o en varias, si no
+     * cabe en el buffer), nunca dos trozos juntos.
+     */
+    private static final class Trozos implements ReadableByteChannel {
+        private final List<byte[]> trozos;
+        private int actual;
+        private int desde;
+
+        Trozos(List<byte[]> trozos) {
+            this.trozos = trozos;
+        }
+
+        @Override
+        public int read(ByteBuffer destino) {
+            while (actual < trozos.size() && desde == trozos.get(actual).length) {
+                actual++;
+                desde = 0;
+            }
+            if (actual == trozos.size()) {
+                return -1;
+            }
+            byte[] trozo = trozos.get(actual);
+            int n = Math.min(destino.remaining(), trozo.length - desde);
+            destino.put(trozo, desde, n);
+            desde += n;
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package patronadapter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Ida y vuelta del formato binario: cada etiqueta escrita con SalidaBinaria
+ * se lee igual con EntradaBinaria, también con ventanas de mapeo chicas para
+ * que los valores crucen sus bordes; los datos corruptos se rechazan, y
+ * ConversionBinaria.aTexto da los mismos valores que el modo por lotes en texto.
+ */
+class FormatoBinarioTest {
+    private static final String[] TEXTOS = {"", "hola", "ñandú", "日本語 😀", "x".repeat(100_000)};
+    private static final boolean[] BOOLEANOS = {true, false};
+    private static final int[] ENTEROS = {0, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE};
+    private static final float[] FLOTANTES = {0f, -0f, 1.5f, Float.NaN, Float.NEGATIVE_INFINITY, Float.MIN_VALUE,
+        Float.MAX_VALUE};
+    private static final double[] DOBLES = {0d, -0d, 0.1, Double.NaN, Double.POSITIVE_INFINITY, Double.MIN_VALUE,
+        Double.MAX_VALUE};
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    void idaYVueltaDeCadaEtiqueta() throws IOException {
+        Path archivo = directorio.resolve("valores.bin");
+        Salida salida = SalidaBinaria.crear(archivo);
+        escribir(salida);
+        salida.cerrar();
+
+        List<Object> esperados = esperados();
+        // Ventanas de pocos bytes: casi todos los valores cruzan un borde
+        for (int ventana : new int[]{1, 3, 7, 64, EntradaBinaria.VENTANA}) {
+            EntradaBinaria entrada = EntradaBinaria.mapear(archivo, ventana);
+            try {
+                assertEquals(esperados, leidos(entrada), "ventana de " + ventana);
+            } finally {
+                entrada.cerrar();
+            }
+        }
+        byte[] bytes = Files.readAllBytes(archivo);
+        assertEquals(esperados, leidos(new EntradaBinaria(ByteBuffer.wrap(bytes))));
+        assertEquals(esperados, leidos(new EntradaBinaria(Channels.newChannel(new ByteArrayInputStream(bytes)))));
+    }
+
+    @Test
+    void ingresarIntsSaltaCorridasYSeDetieneEnElPrimerInvalido() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Salida salida = new SalidaBinaria(Channels.newChannel(bytes));
+        salida.mostrarInts(new int[]{1, 2, 3}, 0, 3);
+        salida.mostrarString("4");
+        salida.mostrarInt(5);
+        salida.mostrarDouble(6.5);
+        salida.mostrarInt(7);
+        salida.cerrar();
+
+        Entrada entrada = new EntradaBinaria(ByteBuffer.wrap(bytes.toByteArray()));
+        AdaptadorEntrada lector = new AdaptadorEntradaRapido();
+        int[] destino = new int[8];
+        assertEquals(~5, entrada.ingresarInts(destino, 0, 8, lector));
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 0, 0, 0}, destino);
+        assertEquals(1, entrada.ingresarInts(destino, 0, 8, lector));
+        assertEquals(7, destino[0]);
+        assertEquals(0, entrada.ingresarInts(destino, 0, 8, lector));
+    }
+
+    @Test
+    void rechazaDatosCorruptos() {
+        UncheckedIOException negativa = assertThrows(UncheckedIOException.class,
+            () -> leer(FormatoBinario.STRING, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFE));
+        assertTrue(negativa.getMessage().contains("negativa"), negativa.getMessage());
+        UncheckedIOException truncada = assertThrows(UncheckedIOException.class,
+            () -> leer(FormatoBinario.STRING, (byte) 0, (byte) 0, (byte) 0, (byte) 9, (byte) 'a'));
+        assertTrue(truncada.getMessage().contains("truncados"), truncada.getMessage());
+        assertThrows(UncheckedIOException.class, () -> leer(FormatoBinario.DOUBLE, (byte) 1, (byte) 2));
+        assertThrows(UncheckedIOException.class, () -> leer((byte) 9));
+    }
+
+    /**
+     * a-binario seguido de a-texto da los mismos valores que el modo por lotes
+     * en texto, sin la etiqueta "Tipo: " de cada línea.
+     */
+    @Test
+    void aTextoComoElModoTexto() throws IOException {
+        String texto = String.join("\n", "12", "-0", "x", "1e3", "2147483648", "0.1", "NaN", "-Infinity",
+            "3.4028236e38", "4.9e-324", "", " 7", "ñ") + "\n";
+        for (String tipo : new String[]{"string", "int", "float", "double", "boolean"}) {
+            ByteArrayOutputStream enTexto = new ByteArrayOutputStream();
+            new Cliente(entrada(texto), new SalidaCanal(Channels.newChannel(enTexto), StandardCharsets.UTF_8))
+                .ejecutarLote(tipo, tipo);
+
+            ByteArrayOutputStream binario = new ByteArrayOutputStream();
+            new Cliente(entrada(texto), new SalidaBinaria(Channels.newChannel(binario))).ejecutarLote(tipo, tipo);
+            ByteArrayOutputStream deBinario = new ByteArrayOutputStream();
+            ConversionBinaria.aTexto(new EntradaBinaria(ByteBuffer.wrap(binario.toByteArray())), deBinario);
+
+            StringBuilder esperado = new StringBuilder();
+            for (String linea : enTexto.toString(StandardCharsets.UTF_8).split(System.lineSeparator())) {
+                esperado.append(linea, linea.indexOf(": ") + 2, linea.length()).append('\n');
+            }
+            assertEquals(esperado.toString(), deBinario.toString(StandardCharsets.UTF_8), tipo);
+        }
+    }
+
+    private static Entrada entrada(String texto) {
+        return new EntradaBloque(ByteBuffer.wrap(texto.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+
+    private static void leer(byte... bytes) {
+        EntradaBinaria entrada = new EntradaBinaria(ByteBuffer.wrap(bytes));
+        entrada.leer(new ResultadoParseo());
+    }
+
+    private static void escribir(Salida salida) {
+        for (String s : TEXTOS) {
+            salida.mostrarString(s);
+        }
+        for (boolean b : BOOLEANOS) {
+            salida.mostrarBoolean(b);
+        }
+        for (int i : ENTEROS) {
+            salida.mostrarInt(i);
+        }
+        for (float f : FLOTANTES) {
+            salida.mostrarFloat(f);
+        }
+        for (double d : DOBLES) {
+            salida.mostrarDouble(d);
+        }
+        salida.mostrarStrings(TEXTOS, 0, TEXTOS.length);
+        salida.mostrarBooleans(BOOLEANOS, 0, BOOLEANOS.length);
+        salida.mostrarInts(ENTEROS, 0, ENTEROS.length);
+        salida.mostrarFloats(FLOTANTES, 0, FLOTANTES.length);
+        salida.mostrarDoubles(DOBLES, 0, DOBLES.length);
+    }
+
+    private static List<Object> esperados() {
+        List<Object> valores = new ArrayList<>();
+        for (int vez = 0; vez < 2; vez++) {
+            valores.addAll(List.of(TEXTOS));
+            for (boolean b : BOOLEANOS) {
+                valores.add(b);
+            }
+            for (int i : ENTEROS) {
+                valores.add(i);
+            }
+            for (float f : FLOTANTES) {
+                valores.add(f);
+            }
+            for (double d : DOBLES) {
+                valores.add(d);
+            }
+        }
+        return valores;
+    }
+
+    /**
+     * Todos los valores de la Entrada, encajonados según su etiqueta; Float y
+     * Double comparan bits.
+     */
+    private static List<Object> leidos(EntradaBinaria entrada) {
+        List<Object> valores = new ArrayList<>();
+        ResultadoParseo resultado = new ResultadoParseo();
+        TipoDato tipo;
+        while ((tipo = entrada.leer(resultado)) != null) {
+            valores.add(switch (tipo) {
+                case STRING -> entrada.texto();
+                case BOOLEAN -> resultado.booleano();
+                case INT -> resultado.entero();
+                case FLOAT -> resultado.flotante();
+                case DOUBLE -> resultado.doble();
+            });
+        }
+        assertNull(entrada.leer(resultado));
+        return valores;
+    }
+}
@@ -0,0 +1,224 @@
+package patronadapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MatrizConversion contra el antiguo Paso 4, que formateaba el valor con
+ * String.valueOf y volvía a parsearlo con el parseX del tipo de salida, en
+ * todos los pares permitidos: enteros extremos, float y double especiales,
+ * subnormales, desbordes al pasar a float, los puntos medios entre floats
+ * vecinos (doble redondeo en doubleAFloat) y textos mal formados.
+ */
+class MatrizConversionTest {
+    private static final int CASOS = 20_000;
+
+    private static final String[] TEXTOS = {
+        "", " ", "0", "-0", "+0", "1", "-1", "+5", " 5", "5 ", "007", "2147483647", "-2147483648", "2147483648",
+        "-2147483649", "99999999999", "1.5", "-1.5", ".5", "1.", "1e3", "1E-3", "1.5f", "2d", "0x10", "0x1p3",
+        "NaN", "-NaN", "Infinity", "-Infinity", "infinity", "1e39", "1e-46", "1e309", "4.9e-324", "1.4e-45",
+        "3.4028235e38", "3.4028236e38", "1.00000017881393432617187499", "1.000000178813934326171875",
+        "true", "TRUE", "True", "false", "yes", "1_000", "1,5", "ñandú", "١٢", "abc", "--1", "\t2\n"
+    };
+
+    private final Random aleatorio = new Random(42);
+    private final Captura salida = new Captura();
+    private final ContextoConversion contexto =
+        new ContextoConversion(new AdaptadorEntradaRapido(), new AdaptadorSalidaRapido(), salida);
+    private final Valor valor = new Valor();
+    private final List<String> diferencias = new ArrayList<>();
+    private long fallos;
+
+    @AfterEach
+    void sinDiferencias() {
+        assertTrue(fallos == 0, fallos + " diferencias, las primeras:\n" + String.join("\n", diferencias));
+    }
+
+    @Test
+    void soloLosParesPermitidosTienenConversor() {
+        int permitidos = 0;
+        for (TipoDato de : TipoDato.values()) {
+            for (TipoDato a : TipoDato.values()) {
+                assertEquals(de.permite(a), MatrizConversion.obtener(de, a) != null, de + " -> " + a);
+                permitidos += de.permite(a) ? 1 : 0;
+            }
+        }
+        assertEquals(17, permitidos);
+    }
+
+    @Test
+    void desdeString() {
+        for (String s : TEXTOS) {
+            verificarTexto(s);
+        }
+        for (int i = 0; i < CASOS; i++) {
+            verificarTexto(switch (aleatorio.nextInt(3)) {
+                case 0 -> String.valueOf(aleatorio.nextInt());
+                case 1 -> String.valueOf(Float.intBitsToFloat(aleatorio.nextInt()));
+                default -> String.valueOf(Double.longBitsToDouble(aleatorio.nextLong()));
+            });
+        }
+    }
+
+    @Test
+    void desdeBoolean() {
+        for (boolean b : new boolean[]{true, false}) {
+            valor.ponerBoolean(b);
+            comparar(TipoDato.BOOLEAN, String.valueOf(b));
+        }
+    }
+
+    @Test
+    void desdeInt() {
+        int[] fijos = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 16_777_216, 16_777_217, -16_777_217,
+            33_554_435, 1 << 30, (1 << 30) + 1};
+        for (int i : fijos) {
+            verificarInt(i);
+        }
+        for (int i = 0; i < CASOS; i++) {
+            verificarInt(aleatorio.nextInt());
+        }
+    }
+
+    @Test
+    void desdeFloat() {
+        float[] fijos = {0f, -0f, 1f, -1f, 0.1f, 1e7f, 9_999_999f, 1.0E10f, 16_777_217f, 1e-3f, Float.NaN,
+            Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.MIN_VALUE, -Float.MIN_VALUE, 2e-45f,
+            Float.MIN_NORMAL, Math.nextDown(Float.MIN_NORMAL), Float.MAX_VALUE, -Float.MAX_VALUE,
+            Math.nextUp(1e7f), Math.nextDown(1e7f), 3.3333333f, 123456.79f};
+        for (float f : fijos) {
+            verificarFloat(f);
+        }
+        for (int i = 0; i < CASOS; i++) {
+            verificarFloat(Float.intBitsToFloat(aleatorio.nextInt()));
+        }
+    }
+
+    @Test
+    void desdeDouble() {
+        double[] fijos = {0d, -0d, 1d, 0.1, 1e7, 1e23, Double.NaN, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE,
+            (double) Float.MAX_VALUE, Math.nextUp((double) Float.MAX_VALUE), 3.4028235677973366e38,
+            3.4028235677973367e38, 3.4028236e38, 1e39, -1e39, (double) Float.MIN_VALUE, 7.006492321624085e-46,
+            7.006492321624086e-46, 1e-46, (double) Float.MIN_NORMAL, 1.00000017881393432617187499,
+            1.000000178813934326171875, 1.00000017881393432617187501};
+        for (double d : fijos) {
+            verificarDouble(d);
+        }
+        for (int i = 0; i < CASOS; i++) {
+            verificarDouble(Double.longBitsToDouble(aleatorio.nextLong()));
+            // Puntos medios entre floats vecinos y sus vecinos a un ulp: donde
+            // el cast directo redondea dos veces
+            float f = Float.intBitsToFloat(aleatorio.nextInt() & 0x7FFFFFFE);
+            if (!Float.isFinite(f) || Float.isInfinite(Math.nextUp(f))) {
+                continue;
+            }
+            double medio = ((double) f + (double) Math.nextUp(f)) / 2;
+            verificarDouble(medio);
+            verificarDouble(Math.nextUp(medio));
+            verificarDouble(Math.nextDown(medio));
+            verificarDouble(-medio);
+            // Valores de float con dígitos que se pierden al pasar por texto
+            verificarDouble((double) f + Math.ulp((double) f));
+        }
+    }
+
+    private void verificarTexto(String s) {
+        valor.ponerTexto(s);
+        comparar(TipoDato.STRING, s);
+    }
+
+    private void verificarInt(int i) {
+        valor.ponerInt(i);
+        comparar(TipoDato.INT, String.valueOf(i));
+    }
+
+    private void verificarFloat(float f) {
+        valor.ponerFloat(f);
+        comparar(TipoDato.FLOAT, String.valueOf(f));
+    }
+
+    private void verificarDouble(double d) {
+        valor.ponerDouble(d);
+        comparar(TipoDato.DOUBLE, String.valueOf(d));
+    }
+
+    /**
+     * Convierte valor a cada tipo permitido y lo compara con parsear el
+     * texto del Paso 4; Float y Double comparan bits, así que NaN es igual a
+     * NaN y -0.0 distinto de 0.0.
+     */
+    private void comparar(TipoDato de, String texto) {
+        for (TipoDato a : TipoDato.values()) {
+            if (!de.permite(a)) {
+                continue;
+            }
+            Object esperado = baseline(a, texto);
+            salida.ultimo = null;
+            boolean convertido = MatrizConversion.obtener(de, a).convertir(valor, contexto);
+            Object obtenido = convertido ? salida.ultimo : null;
+            if (esperado == null ? obtenido != null : !esperado.equals(obtenido)) {
+                fallos++;
+                if (diferencias.size() < 20) {
+                    diferencias.add(de + " -> " + a + " de \"" + texto + "\": esperado " + esperado
+                        + ", obtenido " + obtenido);
+                }
+            }
+        }
+    }
+
+    /**
+     * El valor del Paso 4 antiguo, o null si el parseo lanzaba una excepción.
+     */
+    private static Object baseline(TipoDato a, String texto) {
+        try {
+            return switch (a) {
+                case STRING -> texto;
+                case INT -> Integer.parseInt(texto);
+                case FLOAT -> Float.parseFloat(texto);
+                case DOUBLE -> Double.parseDouble(texto);
+                case BOOLEAN -> Boolean.parseBoolean(texto);
+            };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Salida que guarda el último valor mostrado, encajonado.
+     */
+    private static final class Captura implements Salida {
+        Object ultimo;
+
+        @Override
+        public void mostrarString(String dato) {
+            ultimo = dato;
+        }
+
+        @Override
+        public void mostrarBoolean(boolean dato) {
+            ultimo = dato;
+        }
+
+        @Override
+        public void mostrarInt(int dato) {
+            ultimo = dato;
+        }
+
+        @Override
+        public void mostrarFloat(float dato) {
+            ultimo = dato;
+        }
+
+        @Override
+        public void mostrarDouble(double dato) {
+            ultimo = dato;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package patronadapter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConsoleSalida (System.out) y SalidaCanal deben escribir exactamente los
+ * mismos bytes con el mismo charset, en los métodos de un valor y en los de
+ * bloque, también cuando el buffer del canal es chico y se vacía a mitad.
+ */
+class SalidaConsolaCanalTest {
+    private static final String[] TEXTOS = {
+        "", "hola", "ñandú", "Ünïcödé €", "日本語", "emoji 😀", "\u0000", "línea\tcon tab", null,
+        "x".repeat(200), "é".repeat(200)
+    };
+    private static final boolean[] BOOLEANOS = {true, false};
+    private static final int[] ENTEROS = {0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE, 1_000_000_000, -999_999_999};
+    private static final float[] FLOTANTES = {
+        0f, -0f, 1f, -1.5f, Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+        Float.MIN_VALUE, Float.MIN_NORMAL, Float.MAX_VALUE, 1e7f, 1e-3f, 0.1f, 3.4028235e38f
+    };
+    private static final double[] DOBLES = {
+        0d, -0d, 1d, -1.5d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, 1e7, 1e-3, 0.1, 1e23, 2.2250738585072014e-308
+    };
+
+    @Test
+    void metodosDeUnValor() {
+        comparar(salida -> {
+            for (String s : TEXTOS) {
+                salida.mostrarString(s);
+            }
+            for (boolean b : BOOLEANOS) {
+                salida.mostrarBoolean(b);
+            }
+            for (int i : ENTEROS) {
+                salida.mostrarInt(i);
+            }
+            for (float f : FLOTANTES) {
+                salida.mostrarFloat(f);
+            }
+            for (double d : DOBLES) {
+                salida.mostrarDouble(d);
+            }
+        });
+    }
+
+    @Test
+    void metodosEnBloque() {
+        comparar(salida -> {
+            salida.mostrarStrings(TEXTOS, 0, TEXTOS.length);
+            salida.mostrarBooleans(BOOLEANOS, 0, BOOLEANOS.length);
+            salida.mostrarInts(ENTEROS, 0, ENTEROS.length);
+            salida.mostrarFloats(FLOTANTES, 0, FLOTANTES.length);
+            salida.mostrarDoubles(DOBLES, 0, DOBLES.length);
+            // Rangos que no empiezan en 0
+            salida.mostrarInts(ENTEROS, 3, 2);
+            salida.mostrarDoubles(DOBLES, 4, 0);
+        });
+    }
+
+    private void comparar(Consumer<Salida> escribir) {
+        for (Charset charset : new Charset[]{StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1}) {
+            byte[] consola = consola(charset, escribir);
+            for (int tamano : new int[]{SalidaCanal.TAMANO_BUFFER, 64}) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                Salida canal = new SalidaCanal(Channels.newChannel(bytes), charset, tamano);
+                escribir.accept(canal);
+                canal.cerrar();
+                assertArrayEquals(consola, bytes.toByteArray(), charset + ", buffer de " + tamano);
+            }
+        }
+    }
+
+    private static byte[] consola(Charset charset, Consumer<Salida> escribir) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes, true, charset));
+        try {
+            Salida salida = new ConsoleSalida();
+            escribir.accept(salida);
+            salida.cerrar();
+        } finally {
+            System.out.flush();
+            System.setOut(original);
+        }
+        return bytes.toByteArray();
+    }
+}
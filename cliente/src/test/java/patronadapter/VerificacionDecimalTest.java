@@ -0,0 +1,345 @@
+package patronadapter;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Corpus diferencial de AdaptadorEntradaRapido contra Double.parseDouble y
+ * Float.parseFloat: casos límite fijos, representaciones cortas y exactas de
+ * bits aleatorios, puntos medios entre valores vecinos (los casos difíciles
+ * de redondeo), dígitos y exponentes aleatorios y textos mal formados.
+ * Cada texto se comprueba con las variantes CharSequence, byte[] y
+ * ByteBuffer, con y sin excepciones, y cada valor leído se vuelve a escribir
+ * con AdaptadorSalidaRapido contra Double.toString y Float.toString.
+ * EscritorEntero se compara con Integer.toString.
+ *
+ * Los recorridos de todos los float positivos y de todos los int llevan la
+ * etiqueta "exhaustivo" y sólo corren con mvn -B test -Pexhaustivo.
+ */
+class VerificacionDecimalTest {
+    private static final int CASOS = 20_000;
+
+    private static final String[] FIJOS = {
+        "0", "-0", "+0", "0.0", "-0.0", "0e999999", "-0e-999999", "00000000000000000000000.0000000000000000000001",
+        "1", "-1", "1.", ".5", "-.5", "1e0", "1E+0", "1e-0", "0.1", "0.2", "0.3", "9007199254740993",
+        "9007199254740992", "9007199254740991", "18014398509481985", "1e22", "1e23", "1e-22", "1e-23",
+        "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "2.2250738585072011e-308",
+        "2.2250738585072012e-308", "2.2250738585072014e-308", "1.7976931348623157e308",
+        "1.7976931348623158e308", "1.7976931348623159e308", "1e309", "-1e309", "1e-400", "1e-342", "1e-343",
+        "1.4e-45", "7.006492321624085e-46", "7.006492321624086e-46", "1.17549435e-38", "3.4028235e38",
+        "3.4028236e38", "3.40282357e38", "1e39", "1e-46", "16777217", "33554435", "1.00000017881393432617187499",
+        "1.000000178813934326171875", "1.00000017881393432617187501", "9999999999999999999",
+        "99999999999999999999", "12345678901234567890123456789", "0.000000000000000000000000000123456789",
+        "123456789012345678901234567890e-50", "1" + "0".repeat(400), "0." + "0".repeat(400) + "1",
+        "NaN", "-NaN", "Infinity", "-Infinity", "+Infinity", "0x1p3", "0x1.8p1", "-0X.8P-1", "1.5f", "1.5D", "2d",
+        " 1", "1 ", "\t2.5\n", "", " ", ".", "-", "+", "e5", "1e", "1e+", "1e-", "1.2.3", "1e5.5", "--1", "+-1",
+        "1_000", "١", "0x", "0x1", "nan", "infinity", "Inf", "1,5", "+.", "-.e1", "1e99999999999999999999"
+    };
+
+    private final Random aleatorio = new Random(42);
+    private final AdaptadorEntrada rapido = new AdaptadorEntradaRapido();
+    private final AdaptadorSalida formato = new AdaptadorSalidaRapido();
+    private final ResultadoParseo resultado = new ResultadoParseo();
+    private final byte[] bytes = new byte[32];
+    private final char[] caracteres = new char[32];
+    private final ByteBuffer directo = ByteBuffer.allocateDirect(1 << 12);
+    private final List<String> diferencias = new ArrayList<>();
+    private long fallos;
+
+    @AfterEach
+    void sinDiferencias() {
+        assertTrue(fallos == 0, fallos + " diferencias, las primeras:\n" + String.join("\n", diferencias));
+    }
+
+    @Test
+    void casosFijos() {
+        for (String s : FIJOS) {
+            verificar(s);
+        }
+    }
+
+    @Test
+    void textosDeValoresLimite() {
+        for (double d : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.MIN_VALUE, -Double.MIN_VALUE, 2 * Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE,
+                1e7, 9999999.999999998, 1e-3, 9.999999999999998e-4, 1e23, 2e23, 5e-324, 1e21, 1e22}) {
+            verificarTexto(d);
+        }
+        for (float f : new float[]{Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+                Float.MIN_VALUE, Float.MIN_NORMAL, Float.MAX_VALUE, 1e7f, 1e-3f, 2e-45f, 8e-45f, 1.0E10f}) {
+            verificarTexto(f);
+        }
+    }
+
+    /**
+     * Los extremos de int y cada cambio de longitud: ±10^k y ±(10^k - 1).
+     */
+    @Test
+    void enterosLimite() {
+        verificarEntero(Integer.MIN_VALUE);
+        verificarEntero(Integer.MAX_VALUE);
+        for (long potencia = 1; potencia <= 1_000_000_000L; potencia *= 10) {
+            verificarEntero((int) potencia);
+            verificarEntero((int) -potencia);
+            verificarEntero((int) potencia - 1);
+            verificarEntero(1 - (int) potencia);
+        }
+    }
+
+    @Test
+    void corpusAleatorio() {
+        for (int i = 0; i < CASOS; i++) {
+            caso();
+        }
+    }
+
+    /**
+     * Todos los float positivos finitos, en su representación más corta.
+     */
+    @Test
+    @Tag("exhaustivo")
+    void todosLosFloat() {
+        for (int bits = 0; bits < 0x7F800000; bits++) {
+            float f = Float.intBitsToFloat(bits);
+            String s = Float.toString(f);
+            float leido = rapido.toFloat(s);
+            if (Float.floatToRawIntBits(leido) != bits) {
+                diferencia(s, "toFloat", Float.toString(leido), s);
+            }
+            int fin = formato.escribirFloat(f, bytes, 0);
+            if (fin != s.length() || !s.equals(new String(bytes, 0, fin, StandardCharsets.ISO_8859_1))) {
+                diferencia(s, "escribirFloat", new String(bytes, 0, fin, StandardCharsets.ISO_8859_1), s);
+            }
+        }
+    }
+
+    /**
+     * Todos los int, de Integer.MIN_VALUE a Integer.MAX_VALUE.
+     */
+    @Test
+    @Tag("exhaustivo")
+    void todosLosInt() {
+        int i = Integer.MIN_VALUE;
+        do {
+            verificarEntero(i);
+        } while (i++ != Integer.MAX_VALUE);
+    }
+
+    private void caso() {
+        double d;
+        do {
+            d = Double.longBitsToDouble(aleatorio.nextLong());
+        } while (Double.isNaN(d) || Double.isInfinite(d));
+        verificar(Double.toString(d));
+        verificar(String.format("%." + aleatorio.nextInt(25) + "e", d));
+        verificar(new BigDecimal(d).round(new MathContext(1 + aleatorio.nextInt(40))).toString());
+        puntosMedios(new BigDecimal(d), new BigDecimal(Math.nextUp(d)));
+
+        float f;
+        do {
+            f = Float.intBitsToFloat(aleatorio.nextInt());
+        } while (Float.isNaN(f) || Float.isInfinite(f));
+        verificar(Float.toString(f));
+        verificar(new BigDecimal(f).toString());
+        puntosMedios(new BigDecimal(f), new BigDecimal(Math.nextUp(f)));
+
+        // Enteros de todas las longitudes, no sólo los de 10 dígitos
+        int entero = aleatorio.nextInt();
+        verificarEntero(entero);
+        verificarEntero(entero >> aleatorio.nextInt(32));
+
+        // Valores de uso habitual: pocos decimales, como los de un feed
+        verificar(Double.toString(aleatorio.nextDouble() * 1000));
+        verificar(String.format("%.2f", aleatorio.nextDouble() * 1e6));
+
+        // Dígitos y exponente aleatorios
+        StringBuilder texto = new StringBuilder();
+        if (aleatorio.nextBoolean()) {
+            texto.append('-');
+        }
+        int digitos = 1 + aleatorio.nextInt(30);
+        int punto = aleatorio.nextInt(digitos + 1);
+        for (int k = 0; k < digitos; k++) {
+            if (k == punto) {
+                texto.append('.');
+            }
+            texto.append((char) ('0' + aleatorio.nextInt(10)));
+        }
+        texto.append('e').append(aleatorio.nextInt(720) - 360);
+        verificar(texto.toString());
+
+        // Textos mal formados hechos con los caracteres de la gramática
+        String alfabeto = "0123456789.eE+-fdxpN ";
+        texto.setLength(0);
+        int largo = 1 + aleatorio.nextInt(8);
+        for (int k = 0; k < largo; k++) {
+            texto.append(alfabeto.charAt(aleatorio.nextInt(alfabeto.length())));
+        }
+        verificar(texto.toString());
+    }
+
+    /**
+     * El punto medio exacto entre dos valores vecinos y sus vecinos decimales:
+     * uno por encima y otro por debajo en el último dígito.
+     */
+    private void puntosMedios(BigDecimal a, BigDecimal b) {
+        BigDecimal medio = a.add(b).divide(BigDecimal.valueOf(2));
+        verificar(medio.toString());
+        BigDecimal ulp = medio.ulp().movePointLeft(1 + aleatorio.nextInt(3));
+        verificar(medio.add(ulp).toString());
+        verificar(medio.subtract(ulp).toString());
+    }
+
+    private void verificar(String s) {
+        byte[] b = s.getBytes(StandardCharsets.ISO_8859_1);
+        boolean ascii = new String(b, StandardCharsets.ISO_8859_1).equals(s);
+
+        String esperadoDouble;
+        try {
+            double d = Double.parseDouble(s);
+            esperadoDouble = Long.toHexString(Double.doubleToRawLongBits(d));
+            verificarTexto(d);
+        } catch (NumberFormatException e) {
+            esperadoDouble = "inválido";
+        }
+        comparar(s, "toDouble(String)", esperadoDouble, () -> rapido.toDouble(s));
+        comparar(s, "toDouble(CharSequence)", esperadoDouble, () -> rapido.toDouble(" " + s, 1, s.length()));
+        comparar(s, "intentarDouble(CharSequence)", esperadoDouble,
+            () -> rapido.intentarDouble(s, 0, s.length(), resultado) ? resultado.doble() : null);
+        if (ascii) {
+            comparar(s, "toDouble(byte[])", esperadoDouble, () -> rapido.toDouble(b, 0, b.length));
+            comparar(s, "intentarDouble(byte[])", esperadoDouble,
+                () -> rapido.intentarDouble(b, 0, b.length, resultado) ? resultado.doble() : null);
+            if (b.length <= directo.capacity()) {
+                directo.clear().put(b).flip();
+                comparar(s, "intentarDouble(ByteBuffer)", esperadoDouble,
+                    () -> rapido.intentarDouble(directo, 0, b.length, resultado) ? resultado.doble() : null);
+            }
+        }
+
+        String esperadoFloat;
+        try {
+            float f = Float.parseFloat(s);
+            esperadoFloat = Integer.toHexString(Float.floatToRawIntBits(f));
+            verificarTexto(f);
+        } catch (NumberFormatException e) {
+            esperadoFloat = "inválido";
+        }
+        comparar(s, "toFloat(String)", esperadoFloat, () -> rapido.toFloat(s));
+        comparar(s, "intentarFloat(CharSequence)", esperadoFloat,
+            () -> rapido.intentarFloat(s, 0, s.length(), resultado) ? resultado.flotante() : null);
+        if (ascii) {
+            comparar(s, "toFloat(byte[])", esperadoFloat, () -> rapido.toFloat(b, 0, b.length));
+            comparar(s, "intentarFloat(byte[])", esperadoFloat,
+                () -> rapido.intentarFloat(b, 0, b.length, resultado) ? resultado.flotante() : null);
+        }
+    }
+
+    /**
+     * El texto de AdaptadorSalidaRapido, en byte[] y en char[] con desplazamiento,
+     * debe ser el de Double.toString.
+     */
+    private void verificarTexto(double d) {
+        String esperado = Double.toString(d);
+        int fin = formato.escribirDouble(d, bytes, 0);
+        String enBytes = new String(bytes, 0, fin, StandardCharsets.ISO_8859_1);
+        if (!enBytes.equals(esperado)) {
+            diferencia(esperado, "escribirDouble(byte[])", enBytes, esperado);
+        }
+        fin = formato.escribirDouble(d, caracteres, 3);
+        String enCaracteres = new String(caracteres, 3, fin - 3);
+        if (!enCaracteres.equals(esperado)) {
+            diferencia(esperado, "escribirDouble(char[])", enCaracteres, esperado);
+        }
+        if (!formato.formatDouble(d).equals(esperado)) {
+            diferencia(esperado, "formatDouble", formato.formatDouble(d), esperado);
+        }
+    }
+
+    private void verificarTexto(float f) {
+        String esperado = Float.toString(f);
+        int fin = formato.escribirFloat(f, bytes, 0);
+        String enBytes = new String(bytes, 0, fin, StandardCharsets.ISO_8859_1);
+        if (!enBytes.equals(esperado)) {
+            diferencia(esperado, "escribirFloat(byte[])", enBytes, esperado);
+        }
+        fin = formato.escribirFloat(f, caracteres, 3);
+        String enCaracteres = new String(caracteres, 3, fin - 3);
+        if (!enCaracteres.equals(esperado)) {
+            diferencia(esperado, "escribirFloat(char[])", enCaracteres, esperado);
+        }
+        if (!formato.formatFloat(f).equals(esperado)) {
+            diferencia(esperado, "formatFloat", formato.formatFloat(f), esperado);
+        }
+    }
+
+    /**
+     * EscritorEntero, por AdaptadorSalidaRapido en byte[] y en char[] con
+     * desplazamiento, y su longitud deben coincidir con Integer.toString.
+     */
+    private void verificarEntero(int valor) {
+        String esperado = Integer.toString(valor);
+        if (EscritorEntero.longitud(valor) != esperado.length()) {
+            diferencia(esperado, "longitud", Integer.toString(EscritorEntero.longitud(valor)),
+                Integer.toString(esperado.length()));
+        }
+        // Comparación carácter a carácter: el recorrido exhaustivo no crea más Strings
+        int fin = formato.escribirInt(valor, bytes, 0);
+        boolean igual = fin == esperado.length();
+        for (int k = 0; igual && k < fin; k++) {
+            igual = bytes[k] == esperado.charAt(k);
+        }
+        if (!igual) {
+            diferencia(esperado, "escribirInt(byte[])",
+                new String(bytes, 0, fin, StandardCharsets.ISO_8859_1), esperado);
+        }
+        fin = formato.escribirInt(valor, caracteres, 3);
+        igual = fin - 3 == esperado.length();
+        for (int k = 0; igual && k < fin - 3; k++) {
+            igual = caracteres[3 + k] == esperado.charAt(k);
+        }
+        if (!igual) {
+            diferencia(esperado, "escribirInt(char[])", new String(caracteres, 3, fin - 3), esperado);
+        }
+    }
+
+    private interface Lectura {
+        Object leer();
+    }
+
+    private void comparar(String s, String metodo, String esperado, Lectura lectura) {
+        String obtenido;
+        try {
+            Object valor = lectura.leer();
+            if (valor instanceof Double d) {
+                obtenido = Long.toHexString(Double.doubleToRawLongBits(d));
+            } else if (valor instanceof Float f) {
+                obtenido = Integer.toHexString(Float.floatToRawIntBits(f));
+            } else {
+                obtenido = "inválido";
+            }
+        } catch (NumberFormatException e) {
+            obtenido = "inválido";
+        }
+        if (!obtenido.equals(esperado)) {
+            diferencia(s, metodo, obtenido, esperado);
+        }
+    }
+
+    private void diferencia(String s, String metodo, String obtenido, String esperado) {
+        if (fallos++ < 20) {
+            String muestra = s.length() > 80 ? s.substring(0, 80) + "..." : s;
+            diferencias.add(String.format("  %s(\"%s\"): %s, se esperaba %s", metodo, muestra, obtenido, esperado));
+        }
+    }
+}
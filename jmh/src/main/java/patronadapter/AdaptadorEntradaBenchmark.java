@@ -0,0 +1,248 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parseo de AdaptadorEntradaConsola por tipo: los métodos to* sobre String,
+ * CharSequence, byte[] y ByteBuffer, los intentar* sin excepciones con datos
+ * limpios y con un 30 % inválido, y como referencia el camino con
+ * excepciones sobre esos mismos datos sucios.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Datos.N)
+public class AdaptadorEntradaBenchmark {
+    @Param({"boolean", "int", "float", "double"})
+    public String tipo;
+
+    private final AdaptadorEntrada a = new AdaptadorEntradaConsola();
+    private final ResultadoParseo r = new ResultadoParseo();
+
+    private String[] textos;
+    private String[] sucios;
+    private byte[][] bytes;
+    // Todos los textos en un solo bloque, separados por '\n'
+    private StringBuilder todo;
+    private ByteBuffer heap;
+    private ByteBuffer directo;
+    private int[] desde;
+
+    // Lectura del tipo elegido: en cada fork se usa un solo tipo, así que
+    // cada llamada es monomórfica. Devuelven los bits del valor leído
+    private LecturaTexto leerTexto;
+    private LecturaRango leerRango;
+    private LecturaBytes leerBytes;
+    private LecturaBuffer leerBuffer;
+    private Intento intento;
+    private IntentoBytes intentoBytes;
+    private IntentoBuffer intentoBuffer;
+
+    interface LecturaTexto {
+        long leer(String raw);
+    }
+
+    interface LecturaRango {
+        long leer(CharSequence raw, int desde, int longitud);
+    }
+
+    interface LecturaBytes {
+        long leer(byte[] raw, int desde, int longitud);
+    }
+
+    interface LecturaBuffer {
+        long leer(ByteBuffer raw, int desde, int longitud);
+    }
+
+    interface Intento {
+        boolean aplicar(CharSequence raw, int desde, int longitud, ResultadoParseo destino);
+    }
+
+    interface IntentoBytes {
+        boolean aplicar(byte[] raw, int desde, int longitud, ResultadoParseo destino);
+    }
+
+    interface IntentoBuffer {
+        boolean aplicar(ByteBuffer raw, int desde, int longitud, ResultadoParseo destino);
+    }
+
+    @Setup
+    public void preparar() {
+        TipoDato t = TipoDato.resolver(tipo);
+        textos = Datos.textos(t);
+        sucios = Datos.textosSucios(t);
+        bytes = new byte[Datos.N][];
+        desde = new int[Datos.N];
+        todo = new StringBuilder();
+        for (int i = 0; i < Datos.N; i++) {
+            bytes[i] = textos[i].getBytes(StandardCharsets.ISO_8859_1);
+            desde[i] = todo.length();
+            todo.append(textos[i]).append('\n');
+        }
+        byte[] bloque = todo.toString().getBytes(StandardCharsets.ISO_8859_1);
+        heap = ByteBuffer.wrap(bloque);
+        directo = ByteBuffer.allocateDirect(bloque.length).put(bloque).flip();
+
+        switch (t) {
+            case BOOLEAN -> {
+                leerTexto = x -> a.toBoolean(x) ? 1 : 0;
+                leerRango = (x, d, n) -> a.toBoolean(x, d, n) ? 1 : 0;
+                leerBytes = (x, d, n) -> a.toBoolean(x, d, n) ? 1 : 0;
+                leerBuffer = (x, d, n) -> a.toBoolean(x, d, n) ? 1 : 0;
+                intento = a::intentarBoolean;
+                intentoBytes = a::intentarBoolean;
+                intentoBuffer = a::intentarBoolean;
+            }
+            case INT -> {
+                leerTexto = a::toInt;
+                leerRango = a::toInt;
+                leerBytes = a::toInt;
+                leerBuffer = a::toInt;
+                intento = a::intentarInt;
+                intentoBytes = a::intentarInt;
+                intentoBuffer = a::intentarInt;
+            }
+            case FLOAT -> {
+                leerTexto = x -> Float.floatToRawIntBits(a.toFloat(x));
+                leerRango = (x, d, n) -> Float.floatToRawIntBits(a.toFloat(x, d, n));
+                leerBytes = (x, d, n) -> Float.floatToRawIntBits(a.toFloat(x, d, n));
+                leerBuffer = (x, d, n) -> Float.floatToRawIntBits(a.toFloat(x, d, n));
+                intento = a::intentarFloat;
+                intentoBytes = a::intentarFloat;
+                intentoBuffer = a::intentarFloat;
+            }
+            default -> {
+                leerTexto = x -> Double.doubleToRawLongBits(a.toDouble(x));
+                leerRango = (x, d, n) -> Double.doubleToRawLongBits(a.toDouble(x, d, n));
+                leerBytes = (x, d, n) -> Double.doubleToRawLongBits(a.toDouble(x, d, n));
+                leerBuffer = (x, d, n) -> Double.doubleToRawLongBits(a.toDouble(x, d, n));
+                intento = a::intentarDouble;
+                intentoBytes = a::intentarDouble;
+                intentoBuffer = a::intentarDouble;
+            }
+        }
+    }
+
+    @Benchmark
+    public long toStringIdentidad() {
+        long suma = 0;
+        for (String x : textos) {
+            suma += a.toString(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long toTipoString() {
+        long suma = 0;
+        for (String x : textos) {
+            suma += leerTexto.leer(x);
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long toTipoCharSequence() {
+        long suma = 0;
+        for (int i = 0; i < Datos.N; i++) {
+            suma += leerRango.leer(todo, desde[i], textos[i].length());
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long toTipoBytes() {
+        long suma = 0;
+        for (byte[] x : bytes) {
+            suma += leerBytes.leer(x, 0, x.length);
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long toTipoBufferHeap() {
+        long suma = 0;
+        for (int i = 0; i < Datos.N; i++) {
+            suma += leerBuffer.leer(heap, desde[i], textos[i].length());
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long toTipoBufferDirecto() {
+        long suma = 0;
+        for (int i = 0; i < Datos.N; i++) {
+            suma += leerBuffer.leer(directo, desde[i], textos[i].length());
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long intentarCharSequence() {
+        long suma = 0;
+        for (String x : textos) {
+            suma += intento.aplicar(x, 0, x.length(), r) ? 1 : 0;
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long intentarCharSequenceSucio() {
+        long suma = 0;
+        for (String x : sucios) {
+            suma += intento.aplicar(x, 0, x.length(), r) ? 1 : 0;
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long intentarBytes() {
+        long suma = 0;
+        for (byte[] x : bytes) {
+            suma += intentoBytes.aplicar(x, 0, x.length, r) ? 1 : 0;
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long intentarBufferDirecto() {
+        long suma = 0;
+        for (int i = 0; i < Datos.N; i++) {
+            suma += intentoBuffer.aplicar(directo, desde[i], textos[i].length(), r) ? 1 : 0;
+        }
+        return suma;
+    }
+
+    /**
+     * Referencia: el camino con excepciones que reemplazan los intentar*.
+     */
+    @Benchmark
+    public long toTipoStringSucioConExcepciones() {
+        long suma = 0;
+        for (String x : sucios) {
+            try {
+                suma += leerTexto.leer(x);
+            } catch (NumberFormatException e) {
+                suma--;
+            }
+        }
+        return suma;
+    }
+}
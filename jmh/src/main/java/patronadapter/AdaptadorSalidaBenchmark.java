@@ -0,0 +1,196 @@
+package patronadapter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formateo de AdaptadorSalidaConsola desde Object y desde primitivos, y el
+ * formateo directo de AdaptadorSalidaRapido en un arreglo del llamador
+ * frente al String de Double.toString.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Datos.N)
+public class AdaptadorSalidaBenchmark {
+    private final AdaptadorSalida a = new AdaptadorSalidaConsola();
+    private final AdaptadorSalida rapido = new AdaptadorSalidaRapido();
+    private final byte[] bytes = new byte[EscritorDecimal.MAXIMO_DOUBLE];
+    private final char[] caracteres = new char[EscritorDecimal.MAXIMO_DOUBLE];
+
+    private Object[] objetosString;
+    private Object[] objetosBoolean;
+    private Object[] objetosInt;
+    private Object[] objetosFloat;
+    private Object[] objetosDouble;
+    private int[] enteros;
+    private float[] flotantes;
+    private double[] dobles;
+
+    @Setup
+    public void preparar() {
+        AdaptadorEntrada lector = new AdaptadorEntradaConsola();
+        String[] cadenas = Datos.textos(TipoDato.STRING);
+        String[] booleanos = Datos.textos(TipoDato.BOOLEAN);
+        String[] textosInt = Datos.textos(TipoDato.INT);
+        String[] textosFloat = Datos.textos(TipoDato.FLOAT);
+        String[] textosDouble = Datos.textos(TipoDato.DOUBLE);
+        objetosString = new Object[Datos.N];
+        objetosBoolean = new Object[Datos.N];
+        objetosInt = new Object[Datos.N];
+        objetosFloat = new Object[Datos.N];
+        objetosDouble = new Object[Datos.N];
+        enteros = new int[Datos.N];
+        flotantes = new float[Datos.N];
+        dobles = new double[Datos.N];
+        for (int i = 0; i < Datos.N; i++) {
+            enteros[i] = lector.toInt(textosInt[i]);
+            flotantes[i] = lector.toFloat(textosFloat[i]);
+            dobles[i] = lector.toDouble(textosDouble[i]);
+            objetosString[i] = cadenas[i];
+            objetosBoolean[i] = lector.toBoolean(booleanos[i]);
+            objetosInt[i] = enteros[i];
+            objetosFloat[i] = flotantes[i];
+            objetosDouble[i] = dobles[i];
+        }
+    }
+
+    @Benchmark
+    public long formatStringObject() {
+        long suma = 0;
+        for (Object x : objetosString) {
+            suma += a.formatString(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long formatBooleanObject() {
+        long suma = 0;
+        for (Object x : objetosBoolean) {
+            suma += a.formatBoolean(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long formatIntObject() {
+        long suma = 0;
+        for (Object x : objetosInt) {
+            suma += a.formatInt(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long formatFloatObject() {
+        long suma = 0;
+        for (Object x : objetosFloat) {
+            suma += a.formatFloat(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long formatDoubleObject() {
+        long suma = 0;
+        for (Object x : objetosDouble) {
+            suma += a.formatDouble(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long formatInt() {
+        long suma = 0;
+        for (int x : enteros) {
+            suma += a.formatInt(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long formatFloat() {
+        long suma = 0;
+        for (float x : flotantes) {
+            suma += a.formatFloat(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long formatDouble() {
+        long suma = 0;
+        for (double x : dobles) {
+            suma += a.formatDouble(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long rapidoFormatDouble() {
+        long suma = 0;
+        for (double x : dobles) {
+            suma += rapido.formatDouble(x).length();
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long rapidoEscribirDoubleBytes() {
+        long suma = 0;
+        for (double x : dobles) {
+            suma += rapido.escribirDouble(x, bytes, 0) + bytes[0];
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long rapidoEscribirDoubleChars() {
+        long suma = 0;
+        for (double x : dobles) {
+            suma += rapido.escribirDouble(x, caracteres, 0) + caracteres[0];
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long rapidoEscribirFloatBytes() {
+        long suma = 0;
+        for (float x : flotantes) {
+            suma += rapido.escribirFloat(x, bytes, 0) + bytes[0];
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long rapidoEscribirIntBytes() {
+        long suma = 0;
+        for (int x : enteros) {
+            suma += rapido.escribirInt(x, bytes, 0) + bytes[0];
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long rapidoEscribirIntChars() {
+        long suma = 0;
+        for (int x : enteros) {
+            suma += rapido.escribirInt(x, caracteres, 0) + caracteres[0];
+        }
+        return suma;
+    }
+}
@@ -0,0 +1,59 @@
+package patronadapter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cliente.ejecutarLote completo (lectura, parseo, conversión y salida) sobre
+ * una Entrada en memoria, para cada par de tipos permitido.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Datos.N)
+public class ClienteBenchmark {
+    // Todos los pares permitidos por TipoDato
+    @Param({"string:string", "string:int", "string:float", "string:double", "string:boolean",
+            "int:int", "int:string", "int:float", "int:double",
+            "float:float", "float:string", "float:double",
+            "double:double", "double:string", "double:float",
+            "boolean:boolean", "boolean:string"})
+    public String par;
+
+    private String de;
+    private String a;
+    private EntradaMemoria entrada;
+    private SalidaNula salida;
+    private Cliente cliente;
+
+    @Setup
+    public void preparar() {
+        TipoDato[] tipos = Datos.par(par);
+        de = tipos[0].nombre();
+        a = tipos[1].nombre();
+        entrada = new EntradaMemoria(Datos.textos(tipos[0]));
+        salida = new SalidaNula();
+        cliente = new Cliente(entrada, salida);
+    }
+
+    @Benchmark
+    public long ejecutarLote() {
+        entrada.reiniciar();
+        cliente.ejecutarLote(de, a);
+        return salida.suma;
+    }
+}
@@ -0,0 +1,59 @@
+package patronadapter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversión de valores ya leídos con la matriz de conversión, para cada par
+ * de tipos permitido.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Datos.N)
+public class ConversionBenchmark {
+    // Todos los pares permitidos por TipoDato
+    @Param({"string:string", "string:int", "string:float", "string:double", "string:boolean",
+            "int:int", "int:string", "int:float", "int:double",
+            "float:float", "float:string", "float:double",
+            "double:double", "double:string", "double:float",
+            "boolean:boolean", "boolean:string"})
+    public String par;
+
+    private Valor[] valores;
+    private SalidaNula salida;
+    private ContextoConversion contexto;
+    private Conversor conversor;
+
+    @Setup
+    public void preparar() {
+        TipoDato[] tipos = Datos.par(par);
+        valores = Datos.valores(tipos[0]);
+        salida = new SalidaNula();
+        contexto = new ContextoConversion(new AdaptadorEntradaConsola(), new AdaptadorSalidaConsola(), salida);
+        conversor = MatrizConversion.obtener(tipos[0], tipos[1]);
+    }
+
+    @Benchmark
+    public long convertir() {
+        long suma = 0;
+        for (Valor x : valores) {
+            suma += conversor.convertir(x, contexto) ? 1 : 0;
+        }
+        return suma + salida.suma;
+    }
+}
@@ -0,0 +1,71 @@
+package patronadapter;
+
+import java.util.Random;
+
+/**
+ * Datos de entrada compartidos por los bancos: N textos aleatorios de cada
+ * tipo, siempre con la misma semilla para que las corridas sean comparables.
+ */
+final class Datos {
+    static final int N = 1024;
+
+    private Datos() {
+    }
+
+    static String[] textos(TipoDato tipo) {
+        Random aleatorio = new Random(42);
+        String[] textos = new String[N];
+        for (int i = 0; i < N; i++) {
+            textos[i] = switch (tipo) {
+                case STRING -> Integer.toString(aleatorio.nextInt(1000));
+                case INT -> Integer.toString(aleatorio.nextInt());
+                case FLOAT -> Float.toString(aleatorio.nextFloat() * 1000);
+                case DOUBLE -> Double.toString(aleatorio.nextDouble() * 1000);
+                case BOOLEAN -> Boolean.toString(aleatorio.nextBoolean());
+            };
+        }
+        return textos;
+    }
+
+    /**
+     * Los mismos textos con un 30 % de valores inválidos, como en una entrada sucia.
+     */
+    static String[] textosSucios(TipoDato tipo) {
+        Random aleatorio = new Random(7);
+        String[] textos = textos(tipo);
+        for (int i = 0; i < N; i++) {
+            if (aleatorio.nextInt(10) < 3) {
+                textos[i] = "x" + i;
+            }
+        }
+        return textos;
+    }
+
+    /**
+     * Los textos de un tipo ya leídos en valores, como los deja el Cliente.
+     */
+    static Valor[] valores(TipoDato tipo) {
+        AdaptadorEntrada a = new AdaptadorEntradaConsola();
+        String[] t = textos(tipo);
+        Valor[] v = new Valor[N];
+        for (int i = 0; i < N; i++) {
+            v[i] = new Valor();
+            switch (tipo) {
+                case STRING -> v[i].ponerTexto(t[i]);
+                case INT -> v[i].ponerInt(a.toInt(t[i]));
+                case FLOAT -> v[i].ponerFloat(a.toFloat(t[i]));
+                case DOUBLE -> v[i].ponerDouble(a.toDouble(t[i]));
+                case BOOLEAN -> v[i].ponerBoolean(a.toBoolean(t[i]));
+            }
+        }
+        return v;
+    }
+
+    /**
+     * Par de tipos escrito "de:a", como en los @Param de los bancos.
+     */
+    static TipoDato[] par(String par) {
+        int dos = par.indexOf(':');
+        return new TipoDato[]{TipoDato.resolver(par, 0, dos), TipoDato.resolver(par, dos + 1, par.length())};
+    }
+}
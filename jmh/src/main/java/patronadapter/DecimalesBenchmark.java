@@ -0,0 +1,89 @@
+package patronadapter;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parseo de decimales: AdaptadorEntradaConsola contra AdaptadorEntradaRapido
+ * con pocos decimales, con la representación más corta de un double y con
+ * 25 dígitos significativos (más de los que caben en la mantisa de 64 bits).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Datos.N)
+public class DecimalesBenchmark {
+    @Param({"consola", "rapido"})
+    public String adaptador;
+
+    @Param({"2-decimales", "double-corto", "25-digitos"})
+    public String datos;
+
+    private final ResultadoParseo r = new ResultadoParseo();
+    private AdaptadorEntrada a;
+    private String[] textos;
+    private byte[][] bytes;
+
+    @Setup
+    public void preparar() {
+        a = adaptador.equals("rapido") ? new AdaptadorEntradaRapido() : new AdaptadorEntradaConsola();
+        Random aleatorio = new Random(42);
+        textos = new String[Datos.N];
+        for (int i = 0; i < Datos.N; i++) {
+            textos[i] = switch (datos) {
+                case "2-decimales" -> String.format("%.2f", aleatorio.nextDouble() * 10_000);
+                case "25-digitos" -> new BigDecimal(aleatorio.nextDouble() * 1000).round(new MathContext(25)).toString();
+                default -> Double.toString(aleatorio.nextDouble() * 1000);
+            };
+        }
+        bytes = new byte[Datos.N][];
+        for (int i = 0; i < Datos.N; i++) {
+            bytes[i] = textos[i].getBytes(StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    @Benchmark
+    public long intentarDoubleCharSequence() {
+        long suma = 0;
+        for (String x : textos) {
+            suma += a.intentarDouble(x, 0, x.length(), r) ? Double.doubleToRawLongBits(r.doble()) : 0;
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long intentarDoubleBytes() {
+        long suma = 0;
+        for (byte[] x : bytes) {
+            suma += a.intentarDouble(x, 0, x.length, r) ? Double.doubleToRawLongBits(r.doble()) : 0;
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long intentarFloatBytes() {
+        long suma = 0;
+        for (byte[] x : bytes) {
+            suma += a.intentarFloat(x, 0, x.length, r) ? Float.floatToRawIntBits(r.flotante()) : 0;
+        }
+        return suma;
+    }
+}
@@ -0,0 +1,88 @@
+package patronadapter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lectura de enteros de a uno por llamada y en bloques con ingresarInts,
+ * sobre texto en memoria (EntradaBloque) y sobre el formato binario
+ * (EntradaBinaria).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Datos.N)
+public class EntradaBenchmark {
+    private ByteBuffer lineas;
+    private ByteBuffer binario;
+    private final int[] bloque = new int[1024];
+    private final AdaptadorEntrada lector = new AdaptadorEntradaRapido();
+
+    @Setup
+    public void preparar() {
+        lineas = ByteBuffer.wrap(String.join("\n", Datos.textos(TipoDato.INT)).getBytes(StandardCharsets.US_ASCII));
+        Random aleatorio = new Random(42);
+        binario = ByteBuffer.allocate(5 * Datos.N);
+        for (int i = 0; i < Datos.N; i++) {
+            binario.put(FormatoBinario.INT).putInt(aleatorio.nextInt());
+        }
+        binario.flip();
+    }
+
+    @Benchmark
+    public long bloqueIngresarInt() {
+        Entrada entrada = new EntradaBloque(lineas.duplicate(), StandardCharsets.US_ASCII);
+        long suma = 0;
+        for (int i = 0; i < Datos.N; i++) {
+            suma += entrada.ingresarInt(null);
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long binariaIngresarInt() {
+        Entrada entrada = new EntradaBinaria(binario.duplicate());
+        long suma = 0;
+        for (int i = 0; i < Datos.N; i++) {
+            suma += entrada.ingresarInt(null);
+        }
+        return suma;
+    }
+
+    @Benchmark
+    public long bloqueIngresarInts() {
+        return ingresarInts(new EntradaBloque(lineas.duplicate(), StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public long binariaIngresarInts() {
+        return ingresarInts(new EntradaBinaria(binario.duplicate()));
+    }
+
+    private long ingresarInts(Entrada entrada) {
+        long suma = 0;
+        int leidos;
+        while ((leidos = entrada.ingresarInts(bloque, 0, bloque.length, lector)) > 0) {
+            for (int i = 0; i < leidos; i++) {
+                suma += bloque[i];
+            }
+        }
+        return suma;
+    }
+}
@@ -0,0 +1,81 @@
+package patronadapter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Costo de registrar una llamada en Histograma, en ns por llamada: la
+ * referencia es System.nanoTime(), que registrar llama una vez más. medir es
+ * lo que agrega un decorador por llamada con su Medidor, pasadas las
+ * primeras llamadas exactas. Los casos concurrentes comparten un histograma
+ * entre 4 hilos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HistogramaBenchmark {
+
+    @State(Scope.Thread)
+    public static class Propio {
+        final Histograma histograma = new Histograma();
+        final Contador contador = new Contador();
+        final Medidor medidor = new Medidor(histograma);
+
+        @Setup
+        public void preparar() {
+            for (int i = 0; i < Medidor.EXACTAS; i++) {
+                medidor.terminar(medidor.iniciar());
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Compartido {
+        final Histograma histograma = new Histograma();
+        final Contador contador = new Contador();
+    }
+
+    @Benchmark
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public void registrar(Propio estado) {
+        estado.histograma.registrar(System.nanoTime());
+    }
+
+    @Benchmark
+    public void medir(Propio estado) {
+        estado.medidor.terminar(estado.medidor.iniciar());
+    }
+
+    @Benchmark
+    public void sumar(Propio estado) {
+        estado.contador.sumar(1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void registrarCompartido(Compartido estado) {
+        estado.histograma.registrar(System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void sumarCompartido(Compartido estado) {
+        estado.contador.sumar(1);
+    }
+}
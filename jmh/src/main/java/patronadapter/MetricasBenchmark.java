@@ -0,0 +1,94 @@
+package patronadapter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Costo de la medición sobre el mismo lote que ClienteBenchmark: los
+ * decoradores de --metricas y las métricas por par de tipos de --jmx.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Datos.N)
+public class MetricasBenchmark {
+
+    @State(Scope.Thread)
+    public static class Instrumentado {
+        @Param({"int:double", "double:float"})
+        public String par;
+
+        String de;
+        String a;
+        EntradaMemoria entrada;
+        SalidaNula salida;
+        Cliente cliente;
+
+        @Setup
+        public void preparar() {
+            TipoDato[] tipos = Datos.par(par);
+            de = tipos[0].nombre();
+            a = tipos[1].nombre();
+            entrada = new EntradaMemoria(Datos.textos(tipos[0]));
+            salida = new SalidaNula();
+            Metricas metricas = new Metricas();
+            cliente = new Cliente(new EntradaInstrumentada(entrada, metricas), new SalidaInstrumentada(salida, metricas),
+                new AdaptadorEntradaInstrumentado(new AdaptadorEntradaRapido(), metricas),
+                new AdaptadorSalidaInstrumentado(new AdaptadorSalidaRapido(), metricas));
+        }
+    }
+
+    /**
+     * Las métricas por par son globales: se encienden antes de crear el
+     * Cliente, y como cada banco corre en su propio fork no afectan a los demás.
+     */
+    @State(Scope.Thread)
+    public static class ConMetricas {
+        @Param({"int:double", "double:float"})
+        public String par;
+
+        String de;
+        String a;
+        EntradaMemoria entrada;
+        SalidaNula salida;
+        Cliente cliente;
+
+        @Setup
+        public void preparar() {
+            TipoDato[] tipos = Datos.par(par);
+            de = tipos[0].nombre();
+            a = tipos[1].nombre();
+            entrada = new EntradaMemoria(Datos.textos(tipos[0]));
+            salida = new SalidaNula();
+            MetricasConversion.habilitar();
+            cliente = new Cliente(entrada, salida);
+        }
+    }
+
+    @Benchmark
+    public long instrumentado(Instrumentado estado) {
+        estado.entrada.reiniciar();
+        estado.cliente.ejecutarLote(estado.de, estado.a);
+        return estado.salida.suma;
+    }
+
+    @Benchmark
+    public long conMetricas(ConMetricas estado) {
+        estado.entrada.reiniciar();
+        estado.cliente.ejecutarLote(estado.de, estado.a);
+        return estado.salida.suma;
+    }
+}
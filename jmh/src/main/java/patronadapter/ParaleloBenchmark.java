@@ -0,0 +1,74 @@
+package patronadapter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Escala de ConversionParalela con la cantidad de hilos: un archivo de
+ * VALORES enteros (unos 16 bloques de TAMANO_BLOQUE) convertido de int a
+ * double, en ms por archivo. La aceleración es el tiempo con 1 hilo sobre el
+ * tiempo con n; sólo tiene sentido con al menos n núcleos libres:
+ *   java -jar jmh/target/benchmarks.jar ParaleloBenchmark -p hilos=1,2,4,8,16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParaleloBenchmark {
+    static final int VALORES = 12_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int hilos;
+
+    private Path entrada;
+    private Path salida;
+
+    @Setup
+    public void preparar() throws IOException {
+        entrada = Files.createTempFile("paralelo", ".txt");
+        salida = Files.createTempFile("paralelo", ".out");
+        Random aleatorio = new Random(42);
+        try (Writer texto = Files.newBufferedWriter(entrada, Charset.defaultCharset())) {
+            for (int i = 0; i < VALORES; i++) {
+                texto.write(Integer.toString(aleatorio.nextInt()));
+                texto.write('\n');
+            }
+        }
+    }
+
+    @TearDown
+    public void borrar() throws IOException {
+        Files.deleteIfExists(entrada);
+        Files.deleteIfExists(salida);
+    }
+
+    @Benchmark
+    public long convertir() {
+        try {
+            new ConversionParalela(entrada, salida, hilos).ejecutar("int", "double");
+            return Files.size(salida);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package patronadapter;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cada Salida escribiendo a un destino que descarta los bytes, de a un valor
+ * y con los métodos en bloque. ConsoleSalida escribe en un System.out nulo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Datos.N)
+public class SalidaBenchmark {
+    @Param({"ConsoleSalida", "SalidaCanal", "SalidaBinaria", "SalidaNula"})
+    public String clase;
+
+    private Salida salida;
+    private int[] enteros;
+    private double[] dobles;
+    private String[] cadenas;
+
+    @Setup
+    public void preparar() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        salida = switch (clase) {
+            case "ConsoleSalida" -> new ConsoleSalida();
+            case "SalidaCanal" -> new SalidaCanal(Channels.newChannel(OutputStream.nullOutputStream()), StandardCharsets.UTF_8);
+            case "SalidaBinaria" -> new SalidaBinaria(Channels.newChannel(OutputStream.nullOutputStream()));
+            default -> new SalidaNula();
+        };
+        Random aleatorio = new Random(42);
+        enteros = new int[Datos.N];
+        dobles = new double[Datos.N];
+        for (int i = 0; i < Datos.N; i++) {
+            enteros[i] = aleatorio.nextInt();
+            dobles[i] = aleatorio.nextDouble() * 1000;
+        }
+        cadenas = Datos.textos(TipoDato.STRING);
+    }
+
+    @Benchmark
+    public void mostrarInt() {
+        for (int x : enteros) {
+            salida.mostrarInt(x);
+        }
+        salida.vaciar();
+    }
+
+    @Benchmark
+    public void mostrarDouble() {
+        for (double x : dobles) {
+            salida.mostrarDouble(x);
+        }
+        salida.vaciar();
+    }
+
+    @Benchmark
+    public void mostrarString() {
+        for (String x : cadenas) {
+            salida.mostrarString(x);
+        }
+        salida.vaciar();
+    }
+
+    @Benchmark
+    public void mostrarInts() {
+        salida.mostrarInts(enteros, 0, Datos.N);
+        salida.vaciar();
+    }
+
+    @Benchmark
+    public void mostrarDoubles() {
+        salida.mostrarDoubles(dobles, 0, Datos.N);
+        salida.vaciar();
+    }
+}
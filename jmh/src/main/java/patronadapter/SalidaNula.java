@@ -0,0 +1,24 @@
+package patronadapter;
+
+/**
+ * Salida que descarta los valores pero los acumula en una suma; los bancos
+ * devuelven la suma para que JMH la consuma y el JIT no elimine el trabajo.
+ */
+class SalidaNula implements Salida {
+    long suma;
+
+    @Override
+    public void mostrarString(String dato) { suma += dato == null ? 0 : dato.length(); }
+
+    @Override
+    public void mostrarBoolean(boolean dato) { suma += dato ? 1 : 0; }
+
+    @Override
+    public void mostrarInt(int dato) { suma += dato; }
+
+    @Override
+    public void mostrarFloat(float dato) { suma += Float.floatToRawIntBits(dato); }
+
+    @Override
+    public void mostrarDouble(double dato) { suma += Double.doubleToRawLongBits(dato); }
+}